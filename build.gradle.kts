@@ -7,6 +7,7 @@ import org.gradle.kotlin.dsl.support.serviceOf
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.openrewrite.recipe"
@@ -51,6 +52,46 @@ dependencies {
 
     testRuntimeOnly("org.openrewrite:rewrite-java-21")
     testRuntimeOnly("com.google.code.findbugs:jsr305:latest.release")
+
+    jmh(platform("org.openrewrite:rewrite-bom:${rewriteVersion}"))
+    jmh("org.openrewrite:rewrite-java")
+    jmh("org.openjdk.jmh:jmh-core:latest.release")
+    jmh("org.projectlombok:lombok:latest.release")
+    jmhAnnotationProcessor("org.projectlombok:lombok:latest.release")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:latest.release")
+    jmhRuntimeOnly("org.openrewrite:rewrite-java-21")
+}
+
+// Recipes run over a fixed corpus that is parsed once per trial. `./gradlew jmh` runs every recipe of the module
+// that needs no options, as listed by the recipe environment, for a per-recipe baseline. Pick some with
+// `./gradlew jmh -Pjmh.recipe=EmptyBlock,NeedBraces`.
+jmh {
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    (findProperty("jmh.includes") as String?)?.let { includes.add(it) }
+    (findProperty("jmh.recipe") as String?)?.let { benchmarkParameters.put("recipe", objects.listProperty<String>().value(it.split(","))) }
+}
+
+val jmhAllRecipes by tasks.registering(JavaExec::class) {
+    description = "Benchmarks every recipe of the module that needs no options, listed from the recipe environment."
+    group = "benchmark"
+    val jmhJar = tasks.named<Jar>("jmhJar")
+    classpath(jmhJar.flatMap { it.archiveFile })
+    mainClass.set("org.openrewrite.staticanalysis.benchmarks.StaticAnalysisRecipeBenchmark")
+    args("-f", "1", "-wi", "2", "-i", "3", "-prof", "gc", "-rf", "JSON",
+        "-rff", layout.buildDirectory.file("results/jmh/results.json").get().asFile.path)
+}
+
+// The recipes to benchmark can only be listed at run time, so without a choice of recipes the jmh task hands over
+// to jmhAllRecipes
+if (findProperty("jmh.recipe") == null) {
+    tasks.named("jmh") {
+        enabled = false
+        dependsOn(jmhAllRecipes)
+    }
 }
 
 // The TypeScript tests spawn `npx --package=@openrewrite/rewrite@<version> rewrite-rpc`, and the RPC
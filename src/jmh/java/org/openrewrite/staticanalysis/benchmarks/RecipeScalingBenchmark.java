@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.java.JavaParser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs a recipe over a single generated compilation unit at doubling sizes. A recipe that is linear in the
+ * size of the file should take roughly twice as long for each step of {@link #methodsPerClass}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RecipeScalingBenchmark {
+
+    @Param({
+            "CombineSemanticallyEqualCatchBlocks",
+            "ReplaceDuplicateStringLiterals",
+            "UseLambdaForFunctionalInterface",
+            "FinalizeLocalVariables",
+            "RemoveUnusedPrivateFields",
+            "RemoveUnusedLocalVariables"
+    })
+    String recipe;
+
+    @Param({"25", "50", "100", "200"})
+    int methodsPerClass;
+
+    @Param({"8"})
+    int catchClausesPerTry;
+
+    Recipe activeRecipe;
+    List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        activeRecipe = Environment.builder()
+                .scanRuntimeClasspath()
+                .build()
+                .activateRecipes("org.openrewrite.staticanalysis." + recipe);
+
+        List<String> sources = SyntheticJavaCorpus.builder()
+                .methodsPerClass(methodsPerClass)
+                .catchClausesPerTry(catchClausesPerTry)
+                .build()
+                .generate();
+        sourceFiles = JavaParser.fromJavaVersion()
+                .build()
+                .parse(new InMemoryExecutionContext(Throwable::printStackTrace), sources.toArray(new String[0]))
+                .collect(toList());
+    }
+
+    @Benchmark
+    public void visit(Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        for (SourceFile sourceFile : StaticAnalysisRecipeBenchmark.run(activeRecipe, sourceFiles, ctx)) {
+            blackhole.consume(sourceFile);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openrewrite.*;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.JavaParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs the visitor of a single recipe over a fixed corpus that is parsed once per trial, so that every recipe
+ * in the module has a throughput and allocation baseline. Run with the {@code gc} profiler to see
+ * {@code gc.alloc.rate.norm} next to ops/s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StaticAnalysisRecipeBenchmark {
+
+    private static final String[] CORPUS = {"Inventory.java", "Listeners.java", "Shapes.java"};
+
+    /**
+     * Recipe names relative to {@code org.openrewrite.staticanalysis}. Composites are expanded into their
+     * recipe list and run in order, the same way a recipe run would. The default only applies when the
+     * benchmark is run on its own, since {@link #main(String[])} runs every recipe that {@link #recipeNames()}
+     * lists.
+     */
+    @Param({"CodeCleanup"})
+    String recipe;
+
+    Recipe activeRecipe;
+    List<SourceFile> sourceFiles;
+
+    /**
+     * Benchmarks every recipe of the module, taking any other JMH options from the command line.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(StaticAnalysisRecipeBenchmark.class.getSimpleName())
+                .param("recipe", recipeNames().toArray(new String[0]))
+                .build())
+                .run();
+    }
+
+    /**
+     * @return The names, relative to {@code org.openrewrite.staticanalysis}, of the Java and declarative recipes
+     * of the module that can run without options, so that recipes added later are benchmarked too.
+     */
+    static List<String> recipeNames() {
+        String prefix = "org.openrewrite.staticanalysis.";
+        return Environment.builder()
+                .scanRuntimeClasspath("org.openrewrite.staticanalysis")
+                .build()
+                .listRecipes()
+                .stream()
+                .filter(r -> r.getName().startsWith(prefix))
+                .filter(r -> r.getDescriptor().getOptions().stream().noneMatch(o -> o.isRequired() && o.getValue() == null))
+                .map(r -> r.getName().substring(prefix.length()))
+                .sorted()
+                .collect(toList());
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        activeRecipe = Environment.builder()
+                .scanRuntimeClasspath()
+                .build()
+                .activateRecipes("org.openrewrite.staticanalysis." + recipe);
+
+        List<String> sources = new ArrayList<>(CORPUS.length);
+        for (String name : CORPUS) {
+            sources.add(readCorpusFile(name));
+        }
+        sourceFiles = JavaParser.fromJavaVersion()
+                .build()
+                .parse(new InMemoryExecutionContext(Throwable::printStackTrace), sources.toArray(new String[0]))
+                .collect(toList());
+    }
+
+    @Benchmark
+    public void visit(Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        for (SourceFile sourceFile : run(activeRecipe, sourceFiles, ctx)) {
+            blackhole.consume(sourceFile);
+        }
+    }
+
+    static List<SourceFile> run(Recipe recipe, List<SourceFile> before, ExecutionContext ctx) {
+        List<SourceFile> after;
+        if (recipe instanceof ScanningRecipe) {
+            after = scanAndVisit((ScanningRecipe<?>) recipe, before, ctx);
+        } else {
+            after = new ArrayList<>(before.size());
+            for (SourceFile sourceFile : before) {
+                after.add(visit(recipe.getVisitor(), sourceFile, ctx));
+            }
+        }
+        for (Recipe child : recipe.getRecipeList()) {
+            after = run(child, after, ctx);
+        }
+        return after;
+    }
+
+    private static <T> List<SourceFile> scanAndVisit(ScanningRecipe<T> recipe, List<SourceFile> before, ExecutionContext ctx) {
+        T acc = recipe.getInitialValue(ctx);
+        for (SourceFile sourceFile : before) {
+            TreeVisitor<?, ExecutionContext> scanner = recipe.getScanner(acc);
+            if (scanner.isAcceptable(sourceFile, ctx)) {
+                scanner.visit(sourceFile, ctx);
+            }
+        }
+        List<SourceFile> after = new ArrayList<>(before.size());
+        for (SourceFile sourceFile : before) {
+            after.add(visit(recipe.getVisitor(acc), sourceFile, ctx));
+        }
+        return after;
+    }
+
+    private static SourceFile visit(TreeVisitor<?, ExecutionContext> visitor, SourceFile sourceFile, ExecutionContext ctx) {
+        if (!visitor.isAcceptable(sourceFile, ctx)) {
+            return sourceFile;
+        }
+        Tree after = visitor.visit(sourceFile, ctx);
+        return after instanceof SourceFile ? (SourceFile) after : sourceFile;
+    }
+
+    private static String readCorpusFile(String name) {
+        try (InputStream is = StaticAnalysisRecipeBenchmark.class.getResourceAsStream("/corpus/" + name)) {
+            if (is == null) {
+                throw new IllegalStateException("Missing corpus file " + name);
+            }
+            return StringUtils.readFully(is, UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis.benchmarks;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates compilable Java compilation units of a configurable shape. The same settings always produce the
+ * same sources, so a recipe can be measured at increasing sizes to see whether it scales linearly.
+ * <p>
+ * The shapes are chosen to give recipes something to do: try statements with many catch clauses, some of
+ * which share a body ({@code CombineSemanticallyEqualCatchBlocks}), string literals drawn from a small pool
+ * ({@code ReplaceDuplicateStringLiterals}) and anonymous implementations of functional interfaces
+ * ({@code UseLambdaForFunctionalInterface}).
+ */
+@Value
+@Builder
+public class SyntheticJavaCorpus {
+
+    @Builder.Default
+    long seed = 42L;
+
+    @Builder.Default
+    int classCount = 1;
+
+    @Builder.Default
+    int methodsPerClass = 10;
+
+    /**
+     * How deeply {@code if} and {@code for} statements nest inside each method body.
+     */
+    @Builder.Default
+    int nestingDepth = 2;
+
+    @Builder.Default
+    int catchClausesPerTry = 3;
+
+    /**
+     * The probability that a string literal repeats one that was already emitted in the same class.
+     */
+    @Builder.Default
+    double stringLiteralDuplicationRate = 0.5;
+
+    /**
+     * The probability that a method declares an anonymous {@link Runnable} or {@link java.util.Comparator}.
+     */
+    @Builder.Default
+    double anonymousClassDensity = 0.3;
+
+    public List<String> generate() {
+        Random random = new Random(seed);
+        List<String> sources = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            sources.add(generateClass("Generated" + i, random));
+        }
+        return sources;
+    }
+
+    private String generateClass(String className, Random random) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder s = new StringBuilder();
+        s.append("package com.example.generated;\n\n")
+                .append("import java.util.*;\n\n")
+                .append("public class ").append(className).append(" {\n");
+        for (int i = 0; i < catchClausesPerTry; i++) {
+            s.append("    static class Failure").append(i).append(" extends RuntimeException {\n    }\n\n");
+        }
+        s.append("    private final List<String> values = new ArrayList<>();\n");
+        for (int m = 0; m < methodsPerClass; m++) {
+            s.append('\n');
+            generateMethod(s, m, random, literals);
+        }
+        return s.append("}\n").toString();
+    }
+
+    private void generateMethod(StringBuilder s, int index, Random random, List<String> literals) {
+        s.append("    public int method").append(index).append("(int p) {\n")
+                .append("        int total = 0;\n");
+        generateNested(s, 0, random, literals);
+        if (random.nextDouble() < anonymousClassDensity) {
+            generateAnonymousClass(s, random, literals);
+        }
+        if (catchClausesPerTry > 0) {
+            generateTry(s, random, literals);
+        }
+        s.append("        return total;\n")
+                .append("    }\n");
+    }
+
+    private void generateNested(StringBuilder s, int depth, Random random, List<String> literals) {
+        String indent = indent(depth + 2);
+        if (depth == nestingDepth) {
+            s.append(indent).append("total += p + ").append(random.nextInt(100)).append(";\n")
+                    .append(indent).append("values.add(").append(literal(random, literals)).append(");\n");
+            return;
+        }
+        String var = "i" + depth;
+        if (random.nextBoolean()) {
+            s.append(indent).append("for (int ").append(var).append(" = 0; ").append(var).append(" < p; ")
+                    .append(var).append("++) {\n");
+        } else {
+            s.append(indent).append("if (p > ").append(random.nextInt(10)).append(") {\n");
+        }
+        generateNested(s, depth + 1, random, literals);
+        s.append(indent).append("}\n");
+    }
+
+    private void generateAnonymousClass(StringBuilder s, Random random, List<String> literals) {
+        if (random.nextBoolean()) {
+            s.append("        Runnable task = new Runnable() {\n")
+                    .append("            @Override\n")
+                    .append("            public void run() {\n")
+                    .append("                values.add(").append(literal(random, literals)).append(");\n")
+                    .append("            }\n")
+                    .append("        };\n")
+                    .append("        task.run();\n");
+        } else {
+            s.append("        Comparator<String> order = new Comparator<String>() {\n")
+                    .append("            @Override\n")
+                    .append("            public int compare(String a, String b) {\n")
+                    .append("                return a.compareTo(b);\n")
+                    .append("            }\n")
+                    .append("        };\n")
+                    .append("        values.sort(order);\n");
+        }
+    }
+
+    private void generateTry(StringBuilder s, Random random, List<String> literals) {
+        String sharedBody = "values.add(" + literal(random, literals) + ");";
+        s.append("        try {\n")
+                .append("            total += values.size() / p;\n")
+                .append("        }");
+        for (int i = 0; i < catchClausesPerTry; i++) {
+            s.append(" catch (Failure").append(i).append(" e) {\n")
+                    .append("            ")
+                    .append(random.nextBoolean() ? sharedBody : "total -= " + i + ";")
+                    .append("\n        }");
+        }
+        s.append('\n');
+    }
+
+    private String literal(Random random, List<String> literals) {
+        if (!literals.isEmpty() && random.nextDouble() < stringLiteralDuplicationRate) {
+            return literals.get(random.nextInt(literals.size()));
+        }
+        String literal = "\"value-" + literals.size() + "\"";
+        literals.add(literal);
+        return literal;
+    }
+
+    private static String indent(int level) {
+        StringBuilder indent = new StringBuilder();
+        for (int i = 0; i < level; i++) {
+            indent.append("    ");
+        }
+        return indent.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.corpus;
+
+import java.io.*;
+import java.util.*;
+
+public class Inventory implements Serializable {
+    private static final String UNKNOWN = "unknown";
+
+    private Map<String, Integer> counts = new HashMap<String, Integer>();
+    private Vector<String> history = new Vector<>();
+    private int unused = 0;
+    private String name;
+
+    public Inventory(String name) {
+        this.name = name;
+    }
+
+    public int count(String item) {
+        Integer c = counts.get(item);
+        if (c == null) {
+            return 0;
+        } else {
+            return c;
+        }
+    }
+
+    public void add(String item, int amount) {
+        int total = count(item);
+        total = total + amount;
+        counts.put(item, total);
+        history.add("add " + item);
+        if (item.equals("widget")) {
+            System.out.println("widget added");
+        }
+    }
+
+    public boolean isEmpty() {
+        if (counts.size() == 0) {
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    public String describe(int code) {
+        String result;
+        switch (code) {
+            default:
+                result = UNKNOWN;
+            case 1:
+                result = "one";
+                break;
+            case 2:
+                result = "two";
+        }
+        return result;
+    }
+
+    public void load(File file) {
+        try {
+            BufferedReader reader = new BufferedReader(new FileReader(file));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                add(line, 1);
+            }
+            reader.close();
+        } catch (FileNotFoundException e) {
+            throw new RuntimeException(e);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void report() {
+        for (String key : counts.keySet()) {
+            System.out.println(key + "=" + counts.get(key));
+        }
+        for (int i = 0; i < history.size(); i++)
+            System.out.println(history.get(i));
+    }
+
+    private void neverCalled() {
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.corpus;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+
+public class Listeners {
+    private List<Runnable> runnables = new ArrayList<>();
+
+    public void register() {
+        runnables.add(new Runnable() {
+            @Override
+            public void run() {
+                System.out.println("first");
+            }
+        });
+        Callable<String> callable = new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return "called";
+            }
+        };
+        Comparator<String> byLength = (a, b) -> {
+            return Integer.compare(a.length(), b.length());
+        };
+        Collections.sort(new ArrayList<String>(), byLength);
+    }
+
+    public String classify(Object o) {
+        if (o instanceof String) {
+            String s = (String) o;
+            return "string:" + s.length();
+        } else if (o instanceof Integer) {
+            return "int:" + ((Integer) o).intValue();
+        } else if (o instanceof String) {
+            return "unreachable";
+        }
+        return String.valueOf(o.toString());
+    }
+
+    public boolean check(boolean flag, Boolean boxed) {
+        if (!(flag == true)) {
+            return !!boxed;
+        }
+        return flag ? true : false;
+    }
+
+    public long sum(int[] values) {
+        long total = 0l;
+        int i = 0;
+        while (i < values.length) {
+            total += values[i];
+            i++;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("total").append("=" + total);
+        return total;
+    }
+
+    protected void finalize() throws Throwable {
+        runnables.clear();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.corpus;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public abstract class Shapes {
+    public Shapes() {
+    }
+
+    public abstract double area();
+
+    public static final class Circle extends Shapes {
+        private final double radius;
+
+        public Circle(double radius) {
+            this.radius = radius;
+        }
+
+        @Override
+        public double area() {
+            return Math.PI * (radius * radius);
+        }
+
+        public boolean equals(Circle other) {
+            return other.radius == radius;
+        }
+    }
+
+    static class Square extends Shapes {
+        double side;
+
+        Square(double side) {
+            this.side = side;
+        }
+
+        public double area() {
+            return side * side;
+        }
+
+        public int hashcode() {
+            return (int) side;
+        }
+    }
+
+    public static BigDecimal scaled(double value) {
+        return new BigDecimal(value).setScale(2, BigDecimal.ROUND_HALF_UP);
+    }
+
+    public static String label(Optional<String> name) {
+        if (name.isPresent()) {
+            return name.get();
+        }
+        String label = "shape";
+        return label;
+    }
+
+    public static int Compute_Perimeter(int sides, int length) {
+        int result = sides * length;
+        result = result;
+        return result;
+    }
+}
@@ -26,7 +26,6 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.search.UsesJavaVersion;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -51,7 +50,7 @@ public class AddSerialAnnotationToSerialVersionUID extends Recipe {
         return Preconditions.check(
                 Preconditions.and(
                         new UsesJavaVersion<>(14),
-                        new UsesType<>("java.io.Serializable", true)
+                        PreconditionIndex.usesType("java.io.Serializable", true)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -20,7 +20,6 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.SemanticallyEqual;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
@@ -78,14 +77,14 @@ public class AllBranchesIdentical extends Recipe {
 
                 Statement first = bodies.get(0);
                 for (int i = 1; i < bodies.size(); i++) {
-                    if (!SemanticallyEqual.areEqual(first, bodies.get(i))) {
+                    if (!SemanticEqualityCache.areEqual(first, bodies.get(i), ctx)) {
                         return if__;
                     }
                 }
 
                 // Collapsing the chain stops evaluating the conditions, which is only safe when they are pure
                 for (Expression condition : conditions) {
-                    if (mayHaveSideEffects(condition)) {
+                    if (mayHaveSideEffects(condition, getCursor(), ctx)) {
                         return if__;
                     }
                 }
@@ -20,21 +20,21 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.*;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.JavaType;
-import org.openrewrite.java.tree.TypeTree;
+import org.openrewrite.java.tree.*;
 import org.openrewrite.staticanalysis.java.MoveFieldAnnotationToType;
 
 import java.util.*;
-import java.util.Locale;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static java.util.Collections.emptyList;
+import static java.util.Objects.requireNonNull;
+
 @EqualsAndHashCode(callSuper = false)
 @Value
 public class AnnotateNullableMethods extends Recipe {
 
     private static final String DEFAULT_NULLABLE_ANN_CLASS = "org.jspecify.annotations.Nullable";
+    private static final String NULLABLE_METHODS = "NULLABLE_METHODS";
 
     /**
      * FQNs of nullable annotations that are meta-annotated with {@code @Target(TYPE_USE)}.
@@ -79,29 +79,22 @@ public class AnnotateNullableMethods extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         String fullyQualifiedName = nullableAnnotationClass != null ? nullableAnnotationClass : DEFAULT_NULLABLE_ANN_CLASS;
-        String fullyQualifiedPackage = fullyQualifiedName.substring(0, fullyQualifiedName.lastIndexOf('.'));
-        String simpleName = fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
         boolean isTypeUseAnnotation = TYPE_USE_NULLABLE_ANNOTATIONS.contains(fullyQualifiedName);
 
-        JavaIsoVisitor<ExecutionContext> javaIsoVisitor = new JavaIsoVisitor<ExecutionContext>() {
+        return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration methodDeclaration, ExecutionContext ctx) {
-                if (!methodDeclaration.hasModifier(J.Modifier.Type.Public) ||
-                        methodDeclaration.getMethodType() == null ||
-                        methodDeclaration.getMethodType().getReturnType() instanceof JavaType.Primitive ||
-                        hasAnyNullableAnnotation(methodDeclaration)) {
+                if (!isCandidate(methodDeclaration, getCursor())) {
                     return methodDeclaration;
                 }
 
                 J.MethodDeclaration md = super.visitMethodDeclaration(methodDeclaration, ctx);
                 updateCursor(md);
-                if (FindNullableReturnStatements.find(md.getBody(), getCursor().getParentTreeCursor(), nullableAnnotationClass)) {
-                    J.MethodDeclaration annotatedMethod = JavaTemplate.builder("@" + fullyQualifiedName)
-                            .javaParser(JavaParser.fromJavaVersion().dependsOn(
-                                    String.format("package %s;%spublic @interface %s {}", fullyQualifiedPackage,
-                                            isTypeUseAnnotation ? "@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE_USE)" : "",
-                                            simpleName)))
-                            .build()
+                Cursor sourceFile = getCursor().dropParentUntil(JavaSourceFile.class::isInstance);
+                Set<UUID> nullableMethods = sourceFile.computeMessageIfAbsent(NULLABLE_METHODS,
+                        k -> new NullableMethods(fullyQualifiedName).find(sourceFile.getValue()));
+                if (nullableMethods.contains(md.getId())) {
+                    J.MethodDeclaration annotatedMethod = AnnotationTemplates.annotation(fullyQualifiedName, isTypeUseAnnotation, ctx)
                             .apply(getCursor(), md.getCoordinates().addAnnotation(Comparator.comparing(J.Annotation::getSimpleName)));
                     doAfterVisit(ShortenFullyQualifiedTypeReferences.modifyOnly(annotatedMethod));
 
@@ -117,44 +110,188 @@ public class AnnotateNullableMethods extends Recipe {
                 }
                 return md;
             }
+        };
+    }
 
-            /**
-             * Checks whether the method declaration already has any known nullable annotation,
-             * either as a method-level annotation or anywhere on the return type.
-             */
-            private boolean hasAnyNullableAnnotation(J.MethodDeclaration methodDeclaration) {
-                // Check method-level annotations
-                for (J.Annotation annotation : methodDeclaration.getLeadingAnnotations()) {
+    /**
+     * Whether the method is one that may be annotated: a public method returning a reference type, that does
+     * not already carry a nullable annotation.
+     */
+    private static boolean isCandidate(J.MethodDeclaration methodDeclaration, Cursor cursor) {
+        return methodDeclaration.hasModifier(J.Modifier.Type.Public) &&
+               methodDeclaration.getMethodType() != null &&
+               !(methodDeclaration.getMethodType().getReturnType() instanceof JavaType.Primitive) &&
+               !hasAnyNullableAnnotation(methodDeclaration, cursor);
+    }
+
+    /**
+     * Checks whether the method declaration already has any known nullable annotation,
+     * either as a method-level annotation or anywhere on the return type.
+     */
+    private static boolean hasAnyNullableAnnotation(J.MethodDeclaration methodDeclaration, Cursor cursor) {
+        // Check method-level annotations
+        for (J.Annotation annotation : methodDeclaration.getLeadingAnnotations()) {
+            if (isNullAnnotation(annotation)) {
+                return true;
+            }
+        }
+        // Scan the entire return type tree for any annotation with a known nullable simple name.
+        // Uses a TreeVisitor to reliably traverse all AST node types regardless of structure
+        // (J.AnnotatedType, J.FieldAccess with annotated names, J.ArrayType with bracket annotations, etc.)
+        TypeTree returnType = methodDeclaration.getReturnTypeExpression();
+        if (returnType != null) {
+            return new JavaIsoVisitor<AtomicBoolean>() {
+                @Override
+                public J.Annotation visitAnnotation(J.Annotation annotation, AtomicBoolean found) {
                     if (isNullAnnotation(annotation)) {
-                        return true;
+                        found.set(true);
                     }
+                    return annotation;
                 }
-                // Scan the entire return type tree for any annotation with a known nullable simple name.
-                // Uses a TreeVisitor to reliably traverse all AST node types regardless of structure
-                // (J.AnnotatedType, J.FieldAccess with annotated names, J.ArrayType with bracket annotations, etc.)
-                TypeTree returnType = methodDeclaration.getReturnTypeExpression();
-                if (returnType != null) {
-                    return new JavaIsoVisitor<AtomicBoolean>() {
-                        @Override
-                        public J.Annotation visitAnnotation(J.Annotation annotation, AtomicBoolean found) {
-                            if (isNullAnnotation(annotation)) {
-                                found.set(true);
-                            }
-                            return annotation;
-                        }
-                    }.reduce(returnType, new AtomicBoolean(false), getCursor()).get();
+            }.reduce(returnType, new AtomicBoolean(false), cursor).get();
+        }
+        return false;
+    }
+
+    private static boolean isNullAnnotation(J.Annotation ann) {
+        return ann.getSimpleName().toLowerCase(Locale.ROOT).contains("null");
+    }
+
+    /**
+     * Decides which methods of a source file to annotate. A method is nullable when one of its return statements
+     * may return {@code null} by itself, or returns what a nullable method of the same source file returns.
+     * <p>
+     * The methods and the calls they return form a call graph. Its strongly connected components are completed
+     * callees first, so by the time a component is completed, the nullability of every method it returns from
+     * outside the component is already decided. A component is then nullable as a whole when any of its methods
+     * is, since its methods all return each other. Chains of any length are decided in this single pass.
+     */
+    private static class NullableMethods extends JavaIsoVisitor<Integer> {
+        private final String nullableAnnotationClass;
+        private final Map<UUID, Node> nodes = new LinkedHashMap<>();
+        private final Map<JavaType.Method, List<Node>> byType = new HashMap<>();
+        private final Deque<Node> stack = new ArrayDeque<>();
+        private int index;
+
+        NullableMethods(String nullableAnnotationClass) {
+            this.nullableAnnotationClass = nullableAnnotationClass;
+        }
+
+        Set<UUID> find(JavaSourceFile sourceFile) {
+            visit(sourceFile, 0);
+            for (Node node : nodes.values()) {
+                for (JavaType.Method returnedCall : node.returnedCalls) {
+                    node.callees.addAll(byType.getOrDefault(returnedCall, emptyList()));
                 }
-                return false;
             }
+            for (Node node : nodes.values()) {
+                if (node.index < 0) {
+                    strongConnect(node);
+                }
+            }
+            Set<UUID> nullableMethods = new HashSet<>();
+            for (Node node : nodes.values()) {
+                if (node.nullable) {
+                    nullableMethods.add(node.id);
+                }
+            }
+            return nullableMethods;
+        }
 
-            private boolean isNullAnnotation(J.Annotation ann) {
-                return ann.getSimpleName().toLowerCase(Locale.ROOT).contains("null");
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Integer p) {
+            // Mirrors the annotating visitor, which does not descend into methods that are not candidates
+            if (!isCandidate(method, getCursor())) {
+                return method;
             }
-        };
-        return Repeat.repeatUntilStable(javaIsoVisitor, 5);
+            List<JavaType.Method> returnedCalls = new ArrayList<>();
+            boolean nullable = FindNullableReturnStatements.find(method.getBody(), getCursor(), nullableAnnotationClass, returnedCalls);
+            Node node = new Node(method.getId(), nullable, returnedCalls);
+            nodes.put(node.id, node);
+            byType.computeIfAbsent(requireNonNull(method.getMethodType()), k -> new ArrayList<>()).add(node);
+            return super.visitMethodDeclaration(method, p);
+        }
+
+        /**
+         * Tarjan's algorithm, with an explicit stack of the methods being visited in place of recursion, so that
+         * call chains of any depth are decided without growing the thread's stack.
+         */
+        private void strongConnect(Node root) {
+            Deque<Node> visiting = new ArrayDeque<>();
+            enter(root, visiting);
+            while (!visiting.isEmpty()) {
+                Node node = visiting.peek();
+                if (node.nextCallee < node.callees.size()) {
+                    Node callee = node.callees.get(node.nextCallee++);
+                    if (callee.index < 0) {
+                        enter(callee, visiting);
+                    } else if (callee.onStack) {
+                        node.lowLink = Math.min(node.lowLink, callee.index);
+                    }
+                    continue;
+                }
+                visiting.pop();
+                if (node.lowLink == node.index) {
+                    complete(node);
+                }
+                Node caller = visiting.peek();
+                if (caller != null) {
+                    caller.lowLink = Math.min(caller.lowLink, node.lowLink);
+                }
+            }
+        }
+
+        private void enter(Node node, Deque<Node> visiting) {
+            node.index = node.lowLink = index++;
+            stack.push(node);
+            node.onStack = true;
+            visiting.push(node);
+        }
+
+        private void complete(Node root) {
+            List<Node> component = new ArrayList<>();
+            boolean nullable = false;
+            Node member;
+            do {
+                member = stack.pop();
+                member.onStack = false;
+                component.add(member);
+                nullable |= member.nullable || returnsNullable(member);
+            } while (member != root);
+            for (Node m : component) {
+                m.nullable = nullable;
+            }
+        }
+
+        private static boolean returnsNullable(Node node) {
+            for (Node callee : node.callees) {
+                if (callee.nullable) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static class Node {
+            final UUID id;
+            final List<JavaType.Method> returnedCalls;
+            final List<Node> callees = new ArrayList<>();
+            boolean nullable;
+            int index = -1;
+            int lowLink;
+            boolean onStack;
+            int nextCallee;
+
+            Node(UUID id, boolean nullable, List<JavaType.Method> returnedCalls) {
+                this.id = id;
+                this.nullable = nullable;
+                this.returnedCalls = returnedCalls;
+            }
+        }
     }
 
     private static class FindNullableReturnStatements extends JavaIsoVisitor<AtomicBoolean> {
+        private static final String ANNOTATED_METHODS = "ANNOTATED_METHODS";
 
         private static final List<MethodMatcher> KNOWN_NULLABLE_METHODS = Arrays.asList(
                 // These mostly return a nullable current or  previous value, which is more often null
@@ -198,13 +335,19 @@ public class AnnotateNullableMethods extends Recipe {
         );
 
         private final String nullableAnnotationClass;
+        private final List<JavaType.Method> returnedCalls;
 
-        private FindNullableReturnStatements(@Nullable String nullableAnnotationClass) {
-            this.nullableAnnotationClass = Optional.ofNullable(nullableAnnotationClass).orElse(DEFAULT_NULLABLE_ANN_CLASS);
+        private FindNullableReturnStatements(String nullableAnnotationClass, List<JavaType.Method> returnedCalls) {
+            this.nullableAnnotationClass = nullableAnnotationClass;
+            this.returnedCalls = returnedCalls;
         }
 
-        static boolean find(@Nullable J subtree, Cursor parentTreeCursor, @Nullable String nullableAnnotationClass) {
-            return new FindNullableReturnStatements(nullableAnnotationClass).reduce(subtree, new AtomicBoolean(), parentTreeCursor).get();
+        /**
+         * @param returnedCalls Collects the methods whose result is returned, as long as no return statement is
+         *                      found to return {@code null} by itself.
+         */
+        static boolean find(@Nullable J subtree, Cursor parentTreeCursor, String nullableAnnotationClass, List<JavaType.Method> returnedCalls) {
+            return new FindNullableReturnStatements(nullableAnnotationClass, returnedCalls).reduce(subtree, new AtomicBoolean(), parentTreeCursor).get();
         }
 
         @Override
@@ -234,7 +377,14 @@ public class AnnotateNullableMethods extends Recipe {
                 return ((J.Literal) returnExpression).getValue() == null;
             }
             if (returnExpression instanceof J.MethodInvocation) {
-                return isLocalNullableMethod((J.MethodInvocation) returnExpression) || isKnownNullableMethod((J.MethodInvocation) returnExpression);
+                J.MethodInvocation methodInvocation = (J.MethodInvocation) returnExpression;
+                if (isLocalNullableMethod(methodInvocation) || isKnownNullableMethod(methodInvocation)) {
+                    return true;
+                }
+                if (methodInvocation.getMethodType() != null) {
+                    returnedCalls.add(methodInvocation.getMethodType());
+                }
+                return false;
             }
             if (returnExpression instanceof J.Ternary) {
                 J.Ternary ternary = (J.Ternary) returnExpression;
@@ -254,31 +404,39 @@ public class AnnotateNullableMethods extends Recipe {
 
         private boolean isLocalNullableMethod(J.MethodInvocation methodInvocation) {
             JavaType.Method targetMethod = methodInvocation.getMethodType();
-            if (targetMethod == null) {
-                return false;
-            }
+            return targetMethod != null && annotatedMethods(getCursor(), nullableAnnotationClass).contains(targetMethod);
+        }
 
-            // Visit the entire compilation unit to find the method declaration
-            AnnotationMatcher annotationMatcher = new AnnotationMatcher("@" + nullableAnnotationClass);
-            SourceFile sf = getCursor().firstEnclosingOrThrow(SourceFile.class);
-            return new JavaIsoVisitor<AtomicBoolean>() {
-                @Override
-                public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, AtomicBoolean p) {
-                    if (p.get()) {
-                        return method;
-                    }
-                    if (targetMethod.equals(method.getMethodType()) && method.getReturnTypeExpression() instanceof J.AnnotatedType) {
-                        for (J.Annotation annotation : ((J.AnnotatedType) method.getReturnTypeExpression()).getAnnotations()) {
-                            if (annotationMatcher.matches(annotation)) {
-                                p.set(true);
-                                break;
-                            }
+        /**
+         * @return The methods declared in the source file whose return type already carries the nullable annotation.
+         * They are collected in one visit of the source file on first request, and then kept on the cursor of the
+         * source file.
+         */
+        private static Set<JavaType.Method> annotatedMethods(Cursor cursor, String nullableAnnotationClass) {
+            Cursor sourceFile = cursor.dropParentUntil(SourceFile.class::isInstance);
+            return sourceFile.computeMessageIfAbsent(ANNOTATED_METHODS, k -> {
+                AnnotationMatcher annotationMatcher = new AnnotationMatcher("@" + nullableAnnotationClass);
+                return new JavaIsoVisitor<Set<JavaType.Method>>() {
+                    @Override
+                    public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Set<JavaType.Method> methods) {
+                        if (hasNullableReturnType(method, annotationMatcher)) {
+                            methods.add(method.getMethodType());
                         }
-                        return method;
+                        return super.visitMethodDeclaration(method, methods);
+                    }
+                }.reduce(sourceFile.<SourceFile>getValue(), new HashSet<>());
+            });
+        }
+
+        private static boolean hasNullableReturnType(J.MethodDeclaration method, AnnotationMatcher annotationMatcher) {
+            if (method.getMethodType() != null && method.getReturnTypeExpression() instanceof J.AnnotatedType) {
+                for (J.Annotation annotation : ((J.AnnotatedType) method.getReturnTypeExpression()).getAnnotations()) {
+                    if (annotationMatcher.matches(annotation)) {
+                        return true;
                     }
-                    return super.visitMethodDeclaration(method, p);
                 }
-            }.reduce(sf, new AtomicBoolean(false)).get();
+            }
+            return false;
         }
     }
 }
@@ -95,7 +95,6 @@ public class AnnotateNullableParameters extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         String fullyQualifiedName = nullableAnnotationClass != null ? nullableAnnotationClass : DEFAULT_NULLABLE_ANN_CLASS;
-        String fullyQualifiedPackage = fullyQualifiedName.substring(0, fullyQualifiedName.lastIndexOf('.'));
         String simpleName = fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
@@ -120,10 +119,7 @@ public class AnnotateNullableParameters extends Recipe {
                     if (stm instanceof J.VariableDeclarations) {
                         J.VariableDeclarations vd = (J.VariableDeclarations) stm;
                         if (containsIdentifierByName(nullCheckedIdentifiers, candidateIdentifiers.get(vd))) {
-                            J.VariableDeclarations annotated = JavaTemplate.builder("@" + fullyQualifiedName)
-                                    .javaParser(JavaParser.fromJavaVersion().dependsOn(
-                                            String.format("package %s;public @interface %s {}", fullyQualifiedPackage, simpleName)))
-                                    .build()
+                            J.VariableDeclarations annotated = AnnotationTemplates.annotation(fullyQualifiedName, false, ctx)
                                     .apply(new Cursor(getCursor(), vd),
                                             vd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
 
@@ -65,7 +65,6 @@ public class AnnotateRequiredParameters extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         String fullyQualifiedName = nonNullAnnotationClass != null ? nonNullAnnotationClass : DEFAULT_NONNULL_ANN_CLASS;
         String fullyQualifiedPackage = fullyQualifiedName.substring(0, fullyQualifiedName.lastIndexOf('.'));
-        String simpleName = fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration methodDeclaration, ExecutionContext ctx) {
@@ -115,10 +114,7 @@ public class AnnotateRequiredParameters extends Recipe {
                             vd = (J.VariableDeclarations) new RemoveAnnotationVisitor(new AnnotationMatcher(nullableFqn)).visit(vd, ctx, getCursor());
 
                             // Add @NonNull annotation
-                            J.VariableDeclarations annotated = JavaTemplate.builder("@" + fullyQualifiedName)
-                                    .javaParser(JavaParser.fromJavaVersion().dependsOn(
-                                            String.format("package %s;public @interface %s {}", fullyQualifiedPackage, simpleName)))
-                                    .build()
+                            J.VariableDeclarations annotated = AnnotationTemplates.annotation(fullyQualifiedName, false, ctx)
                                     .apply(new Cursor(getCursor(), vd),
                                             vd.getCoordinates().addAnnotation(comparing(J.Annotation::getSimpleName)));
                             doAfterVisit(ShortenFullyQualifiedTypeReferences.modifyOnly(annotated));
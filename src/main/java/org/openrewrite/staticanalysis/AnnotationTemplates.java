@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Templates that add a single marker annotation, such as {@code @Nullable} or {@code @NonNull}, backed by a stub
+ * of the annotation type. Building a template with its own {@link JavaParser} for every annotated element is
+ * costly, so there is one template per annotation type and target, shared by every recipe that adds it. Templates
+ * are remembered for the whole recipe run in the {@link ExecutionContext}, and at most {@link #MAX_ENTRIES} of
+ * them are kept, least recently used first out.
+ */
+final class AnnotationTemplates {
+    private static final String CACHE_KEY = AnnotationTemplates.class.getName();
+    private static final int MAX_ENTRIES = 32;
+
+    private AnnotationTemplates() {
+    }
+
+    /**
+     * @param fullyQualifiedName The annotation type to add.
+     * @param typeUse            Whether the stub of the annotation type is meta-annotated with {@code @Target(TYPE_USE)}.
+     */
+    static JavaTemplate annotation(String fullyQualifiedName, boolean typeUse, ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(CACHE_KEY, k -> new Templates()).get(fullyQualifiedName, typeUse);
+    }
+
+    private static JavaTemplate build(String fullyQualifiedName, boolean typeUse) {
+        String fullyQualifiedPackage = fullyQualifiedName.substring(0, fullyQualifiedName.lastIndexOf('.'));
+        String simpleName = fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
+        return JavaTemplate.builder("@" + fullyQualifiedName)
+                .javaParser(JavaParser.fromJavaVersion().dependsOn(
+                        String.format("package %s;%spublic @interface %s {}", fullyQualifiedPackage,
+                                typeUse ? "@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE_USE)" : "",
+                                simpleName)))
+                .build();
+    }
+
+    private static class Templates {
+        private final Map<String, JavaTemplate> templates = new LinkedHashMap<String, JavaTemplate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JavaTemplate> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+
+        synchronized JavaTemplate get(String fullyQualifiedName, boolean typeUse) {
+            return templates.computeIfAbsent(fullyQualifiedName + (typeUse ? "#TYPE_USE" : ""),
+                    k -> build(fullyQualifiedName, typeUse));
+        }
+    }
+}
@@ -24,7 +24,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -62,9 +61,9 @@ public class AtomicPrimitiveEqualsUsesGet extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.or(
-                new UsesType<>(ATOMIC_ATOMIC_BOOLEAN, false),
-                new UsesType<>(ATOMIC_ATOMIC_INTEGER, false),
-                new UsesType<>(ATOMIC_ATOMIC_LONG, false)
+                PreconditionIndex.usesType(ATOMIC_ATOMIC_BOOLEAN, false),
+                PreconditionIndex.usesType(ATOMIC_ATOMIC_INTEGER, false),
+                PreconditionIndex.usesType(ATOMIC_ATOMIC_LONG, false)
         ), new JavaVisitor<ExecutionContext>() {
             private final MethodMatcher aiMethodMatcher = new MethodMatcher("java.lang.Object equals(java.lang.Object)");
 
@@ -19,7 +19,6 @@ import lombok.Getter;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
@@ -43,7 +42,7 @@ public class AvoidBoxedBooleanExpressions extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("java.lang.Boolean", true), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(PreconditionIndex.usesType("java.lang.Boolean", true), new JavaVisitor<ExecutionContext>() {
             @Override
             public Expression visitExpression(Expression expression, ExecutionContext ctx) {
                 Expression e = (Expression) super.visitExpression(expression, ctx);
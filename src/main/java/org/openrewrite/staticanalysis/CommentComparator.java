@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Comment;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.java.tree.TextComment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Whether two trees carry the same comments in the same places. Comments are not part of
+ * {@link org.openrewrite.java.search.SemanticallyEqual semantic equality}, so a recipe that merges semantically
+ * equal trees into one, and would otherwise silently drop the comments of the others, checks this as well.
+ * <p>
+ * A comment is placed by the number of nodes visited before it and by the {@link Space.Location} of the space it
+ * is in, so every space is compared, including those after padded elements and before containers. The comments of
+ * the first tree are recorded, and the second tree is then matched against them, stopping at the first difference.
+ * Only comments are recorded, so the memory needed grows with the number of comments, not with the size of the trees.
+ */
+final class CommentComparator {
+
+    private CommentComparator() {
+    }
+
+    static boolean haveSameComments(J j1, J j2) {
+        Recorder recorder = new Recorder();
+        recorder.visit(j1, 0);
+        Matcher matcher = new Matcher(recorder.comments);
+        matcher.visit(j2, 0);
+        return matcher.matches && matcher.next == recorder.comments.size() && matcher.nodes == recorder.nodes;
+    }
+
+    private static String text(Comment comment, JavaIsoVisitor<Integer> visitor) {
+        if (comment instanceof TextComment) {
+            TextComment textComment = (TextComment) comment;
+            return textComment.isMultiline() ? "/*" + textComment.getText() + "*/" : "//" + textComment.getText();
+        }
+        return comment.printComment(visitor.getCursor());
+    }
+
+    private static class PlacedComment {
+        final int node;
+        final Space.Location location;
+        final String text;
+
+        PlacedComment(int node, Space.Location location, String text) {
+            this.node = node;
+            this.location = location;
+            this.text = text;
+        }
+    }
+
+    private static class Recorder extends JavaIsoVisitor<Integer> {
+        final List<PlacedComment> comments = new ArrayList<>();
+        int nodes;
+
+        @Override
+        public @Nullable J visit(@Nullable Tree tree, Integer p) {
+            if (tree != null) {
+                nodes++;
+            }
+            return super.visit(tree, p);
+        }
+
+        @Override
+        public Space visitSpace(Space space, Space.Location loc, Integer p) {
+            for (Comment comment : space.getComments()) {
+                comments.add(new PlacedComment(nodes, loc, text(comment, this)));
+            }
+            return space;
+        }
+    }
+
+    private static class Matcher extends JavaIsoVisitor<Integer> {
+        private final List<PlacedComment> expected;
+        int nodes;
+        int next;
+        boolean matches = true;
+
+        Matcher(List<PlacedComment> expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public @Nullable J visit(@Nullable Tree tree, Integer p) {
+            if (!matches) {
+                return (J) tree;
+            }
+            if (tree != null) {
+                nodes++;
+            }
+            return super.visit(tree, p);
+        }
+
+        @Override
+        public Space visitSpace(Space space, Space.Location loc, Integer p) {
+            for (Comment comment : space.getComments()) {
+                if (!matches) {
+                    break;
+                }
+                if (next == expected.size()) {
+                    matches = false;
+                } else {
+                    PlacedComment placed = expected.get(next++);
+                    matches = placed.node == nodes && placed.location == loc && placed.text.equals(text(comment, this));
+                }
+            }
+            return space;
+        }
+    }
+}
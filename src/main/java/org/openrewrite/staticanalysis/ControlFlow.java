@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * How control leaves a statement: whether it can complete normally, in the sense of the Java Language
+ * Specification, and which break and continue statements inside it jump past its end. Flow-sensitive recipes ask
+ * this instead of each looking for a trailing {@code return} in its own way.
+ * <p>
+ * Every statement is summarized from the summaries of the statements directly inside it, so a method body is
+ * summarized in one pass however often the statements in it are asked about. Summaries are remembered for the
+ * whole recipe run in a {@link TreeCache}, so a statement that a recipe changed is summarized anew.
+ * <p>
+ * Where completion depends on values, the answer is the conservative one: loops are assumed to terminate, even
+ * on a constant {@code true} condition, and a switch without a {@code default} case may complete normally.
+ */
+final class ControlFlow {
+    private static final String CACHE_KEY = ControlFlow.class.getName();
+
+    private static final Summary COMPLETES = new Summary(true, false, false, emptySet());
+    private static final Summary ABRUPT = new Summary(false, false, false, emptySet());
+    private static final Summary BREAK = new Summary(false, true, false, emptySet());
+    private static final Summary CONTINUE = new Summary(false, false, true, emptySet());
+
+    private ControlFlow() {
+    }
+
+    static boolean canCompleteNormally(Statement statement, ExecutionContext ctx) {
+        return summaries(ctx).get(statement).completes;
+    }
+
+    /**
+     * @return Whether the statement cannot complete normally, nor leave by a break or continue, so that it only
+     * ends by returning or throwing.
+     */
+    static boolean alwaysReturnsOrThrows(Statement statement, ExecutionContext ctx) {
+        Summary summary = summaries(ctx).get(statement);
+        return !summary.completes && !summary.breaks && !summary.continues && summary.labels.isEmpty();
+    }
+
+    /**
+     * @return The index of the first statement of the list that cannot complete normally, after which the
+     * remaining statements are unreachable, or -1 when every statement can complete normally.
+     */
+    static int firstNotCompletingNormally(List<Statement> statements, ExecutionContext ctx) {
+        return firstNotCompletingNormally(statements, summaries(ctx));
+    }
+
+    /**
+     * Like {@link #firstNotCompletingNormally(List, ExecutionContext)}, for visitors that have no execution
+     * context, so the summaries are only remembered for the one call.
+     */
+    static int firstNotCompletingNormally(List<Statement> statements) {
+        return firstNotCompletingNormally(statements, new Summaries(null));
+    }
+
+    private static int firstNotCompletingNormally(List<Statement> statements, Summaries summaries) {
+        for (int i = 0; i < statements.size(); i++) {
+            if (!summaries.get(statements.get(i)).completes) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Summaries summaries(ExecutionContext ctx) {
+        return new Summaries(TreeCache.of(ctx, CACHE_KEY, TreeCache.SUBTREES));
+    }
+
+    private static class Summary {
+        final boolean completes;
+
+        // Whether an unlabeled break or continue jumps out of the statement
+        final boolean breaks;
+        final boolean continues;
+
+        // The labels that a break or continue inside the statement jumps to, outside the statement
+        final Set<String> labels;
+
+        Summary(boolean completes, boolean breaks, boolean continues, Set<String> labels) {
+            this.completes = completes;
+            this.breaks = breaks;
+            this.continues = continues;
+            this.labels = labels;
+        }
+    }
+
+    /**
+     * Combines the jumps of statements that control may pass through one after another or alternatively.
+     */
+    private static class Jumps {
+        boolean breaks;
+        boolean continues;
+
+        @Nullable
+        Set<String> labels;
+
+        void add(Summary summary) {
+            breaks |= summary.breaks;
+            continues |= summary.continues;
+            if (!summary.labels.isEmpty()) {
+                if (labels == null) {
+                    labels = new HashSet<>();
+                }
+                labels.addAll(summary.labels);
+            }
+        }
+
+        Summary summary(boolean completes) {
+            if (!breaks && !continues && labels == null) {
+                return completes ? COMPLETES : ABRUPT;
+            }
+            return new Summary(completes, breaks, continues, labels == null ? emptySet() : labels);
+        }
+    }
+
+    private static class Summaries {
+        // Without a cache, every statement is summarized once per question, which is still once per statement
+        private final @Nullable TreeCache<Statement, Summary> cache;
+
+        Summaries(@Nullable TreeCache<Statement, Summary> cache) {
+            this.cache = cache;
+        }
+
+        Summary get(Statement statement) {
+            return cache == null ? summarize(statement) : cache.computeIfAbsent(statement, this::summarize);
+        }
+
+        private Summary summarize(Statement s) {
+            if (s instanceof J.Return || s instanceof J.Throw || s instanceof J.Yield) {
+                return ABRUPT;
+            } else if (s instanceof J.Break) {
+                J.Identifier label = ((J.Break) s).getLabel();
+                return label == null ? BREAK : new Summary(false, false, false, Collections.singleton(label.getSimpleName()));
+            } else if (s instanceof J.Continue) {
+                J.Identifier label = ((J.Continue) s).getLabel();
+                return label == null ? CONTINUE : new Summary(false, false, false, Collections.singleton(label.getSimpleName()));
+            } else if (s instanceof J.Block) {
+                return sequence(((J.Block) s).getStatements());
+            } else if (s instanceof J.If) {
+                return summarizeIf((J.If) s);
+            } else if (s instanceof J.Label) {
+                return summarizeLabel((J.Label) s);
+            } else if (s instanceof Loop) {
+                // Breaks and continues without a label only ever target the loop itself
+                Summary body = get(((Loop) s).getBody());
+                return new Summary(true, false, false, body.labels);
+            } else if (s instanceof J.Switch) {
+                return summarizeSwitch((J.Switch) s);
+            } else if (s instanceof J.Try) {
+                return summarizeTry((J.Try) s);
+            } else if (s instanceof J.Synchronized) {
+                return get(((J.Synchronized) s).getBody());
+            }
+            return COMPLETES;
+        }
+
+        /**
+         * Statements after the first one that cannot complete normally are unreachable, so their jumps are ignored.
+         */
+        private Summary sequence(List<Statement> statements) {
+            Jumps jumps = new Jumps();
+            for (Statement statement : statements) {
+                Summary summary = get(statement);
+                jumps.add(summary);
+                if (!summary.completes) {
+                    return jumps.summary(false);
+                }
+            }
+            return jumps.summary(true);
+        }
+
+        private Summary summarizeIf(J.If if_) {
+            Jumps jumps = new Jumps();
+            Summary then = get(if_.getThenPart());
+            jumps.add(then);
+            if (if_.getElsePart() == null) {
+                return jumps.summary(true);
+            }
+            Summary else_ = get(if_.getElsePart().getBody());
+            jumps.add(else_);
+            return jumps.summary(then.completes || else_.completes);
+        }
+
+        private Summary summarizeLabel(J.Label label) {
+            Summary statement = get(label.getStatement());
+            String name = label.getLabel().getSimpleName();
+            if (!statement.labels.contains(name)) {
+                return statement;
+            }
+            Set<String> labels = new HashSet<>(statement.labels);
+            labels.remove(name);
+            // A labeled continue jumps back into the labeled loop, which then completes like any other loop
+            return new Summary(true, statement.breaks, statement.continues, labels);
+        }
+
+        private Summary summarizeSwitch(J.Switch switch_) {
+            Jumps jumps = new Jumps();
+            boolean hasDefault = false;
+            boolean anyCompletes = false;
+            Summary lastGroup = COMPLETES;
+            for (Statement statement : switch_.getCases().getStatements()) {
+                if (!(statement instanceof J.Case)) {
+                    continue;
+                }
+                J.Case case_ = (J.Case) statement;
+                for (J label : case_.getCaseLabels()) {
+                    if (label instanceof J.Identifier && "default".equals(((J.Identifier) label).getSimpleName())) {
+                        hasDefault = true;
+                    }
+                }
+                Summary summary;
+                if (case_.getType() == J.Case.Type.Rule) {
+                    J body = case_.getBody();
+                    summary = body instanceof Statement ? get((Statement) body) : COMPLETES;
+                    anyCompletes |= summary.completes;
+                } else {
+                    // Statement groups fall through into the next, so only the last one can complete the switch
+                    summary = sequence(case_.getStatements());
+                    lastGroup = summary;
+                }
+                jumps.add(summary);
+            }
+            // Breaks without a label target the switch itself, and make it complete
+            boolean completes = !hasDefault || jumps.breaks || anyCompletes || lastGroup.completes;
+            jumps.breaks = false;
+            return jumps.summary(completes);
+        }
+
+        private Summary summarizeTry(J.Try try_) {
+            Jumps jumps = new Jumps();
+            Summary body = get(try_.getBody());
+            jumps.add(body);
+            boolean completes = body.completes;
+            for (J.Try.Catch catch_ : try_.getCatches()) {
+                Summary catchBody = get(catch_.getBody());
+                jumps.add(catchBody);
+                completes |= catchBody.completes;
+            }
+            if (try_.getFinally() != null) {
+                Summary finally_ = get(try_.getFinally());
+                jumps.add(finally_);
+                completes &= finally_.completes;
+            }
+            return jumps.summary(completes);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.Statement;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * The reads and writes of every variable declared in a method, collected in a single traversal, so that a
+ * recipe asking about many variables of the same method does not walk the method body once per variable.
+ * <p>
+ * References are resolved lexically: an identifier belongs to the innermost declaration of that name that is
+ * in scope, so a local that shadows a field, or two locals of the same name in sibling blocks, never see each
+ * other's references. Pattern variables, such as {@code s} in {@code o instanceof String s}, are declared in
+ * the enclosing scope, and the labels of {@code break} and {@code continue} are not references at all. Declarations are keyed by their tree id rather than by {@link org.openrewrite.java.tree.JavaType.Variable},
+ * because the type cache hands out the same type to same-named locals of the same method.
+ * <p>
+ * What counts as a read and a write is the same as in {@link VariableReferences}.
+ */
+final class DefUseIndex {
+    private static final String CURSOR_KEY = DefUseIndex.class.getName();
+
+    private final Map<UUID, List<J>> reads = new HashMap<>();
+    private final Map<UUID, List<Statement>> writes = new HashMap<>();
+
+    private DefUseIndex() {
+    }
+
+    /**
+     * @param cursor A cursor positioned anywhere inside a method declaration or source file.
+     * @return The index of the nearest enclosing method declaration, or of the source file for variables that
+     * are declared outside any method. The index is built on first request and then kept as a message on that
+     * cursor, so it lives exactly as long as the visit of the method.
+     */
+    static DefUseIndex forScope(Cursor cursor) {
+        Cursor scope = cursor.dropParentUntil(is -> is instanceof J.MethodDeclaration || is instanceof SourceFile);
+        return scope.computeMessageIfAbsent(CURSOR_KEY, k -> build(scope.getValue()));
+    }
+
+    static DefUseIndex build(J root) {
+        DefUseIndex index = new DefUseIndex();
+        new Indexer(index).visit(root, 0);
+        return index;
+    }
+
+    /**
+     * @return The "right-hand side" reads of the variable, see {@link VariableReferences#findRhsReferences(J, J.Identifier)}.
+     */
+    List<J> getReads(J.VariableDeclarations.NamedVariable variable) {
+        return reads.getOrDefault(variable.getId(), emptyList());
+    }
+
+    /**
+     * @return The assignments, compound assignments and increments of the variable.
+     */
+    List<Statement> getWrites(J.VariableDeclarations.NamedVariable variable) {
+        return writes.getOrDefault(variable.getId(), emptyList());
+    }
+
+    boolean isWritten(J.VariableDeclarations.NamedVariable variable) {
+        return writes.containsKey(variable.getId());
+    }
+
+    private static class Scope {
+        final boolean classBody;
+        final Map<String, UUID> declarations = new HashMap<>();
+
+        Scope(boolean classBody) {
+            this.classBody = classBody;
+        }
+    }
+
+    private static class Indexer extends JavaIsoVisitor<Integer> {
+        private final DefUseIndex index;
+        private final Deque<Scope> scopes = new ArrayDeque<>();
+
+        Indexer(DefUseIndex index) {
+            this.index = index;
+            scopes.push(new Scope(false));
+        }
+
+        @Override
+        public J.Block visitBlock(J.Block block, Integer p) {
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            Scope scope = new Scope(parent instanceof J.ClassDeclaration || parent instanceof J.NewClass);
+            if (scope.classBody) {
+                // fields may be referenced before they are declared
+                for (Statement statement : block.getStatements()) {
+                    if (statement instanceof J.VariableDeclarations) {
+                        for (J.VariableDeclarations.NamedVariable v : ((J.VariableDeclarations) statement).getVariables()) {
+                            scope.declarations.put(v.getSimpleName(), v.getId());
+                        }
+                    }
+                }
+            }
+            scopes.push(scope);
+            try {
+                return super.visitBlock(block, p);
+            } finally {
+                scopes.pop();
+            }
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Integer p) {
+            scopes.push(new Scope(false));
+            try {
+                return super.visitMethodDeclaration(method, p);
+            } finally {
+                scopes.pop();
+            }
+        }
+
+        @Override
+        public J.Lambda visitLambda(J.Lambda lambda, Integer p) {
+            scopes.push(new Scope(false));
+            try {
+                return super.visitLambda(lambda, p);
+            } finally {
+                scopes.pop();
+            }
+        }
+
+        @Override
+        public J.ForLoop visitForLoop(J.ForLoop forLoop, Integer p) {
+            scopes.push(new Scope(false));
+            try {
+                return super.visitForLoop(forLoop, p);
+            } finally {
+                scopes.pop();
+            }
+        }
+
+        @Override
+        public J.ForEachLoop visitForEachLoop(J.ForEachLoop forLoop, Integer p) {
+            scopes.push(new Scope(false));
+            try {
+                return super.visitForEachLoop(forLoop, p);
+            } finally {
+                scopes.pop();
+            }
+        }
+
+        @Override
+        public J.Try visitTry(J.Try tryable, Integer p) {
+            scopes.push(new Scope(false));
+            try {
+                return super.visitTry(tryable, p);
+            } finally {
+                scopes.pop();
+            }
+        }
+
+        @Override
+        public J.Try.Catch visitCatch(J.Try.Catch _catch, Integer p) {
+            scopes.push(new Scope(false));
+            try {
+                return super.visitCatch(_catch, p);
+            } finally {
+                scopes.pop();
+            }
+        }
+
+        @Override
+        public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Integer p) {
+            scopes.peek().declarations.put(variable.getSimpleName(), variable.getId());
+            return super.visitVariable(variable, p);
+        }
+
+        @Override
+        public J.InstanceOf visitInstanceOf(J.InstanceOf instanceOf, Integer p) {
+            // The pattern variable stays in scope wherever the instanceof is known to be true, which may be past
+            // the end of the statement, as in `if (!(o instanceof String s)) return;`
+            if (instanceOf.getPattern() instanceof J.Identifier) {
+                scopes.peek().declarations.put(((J.Identifier) instanceOf.getPattern()).getSimpleName(), instanceOf.getPattern().getId());
+            }
+            return super.visitInstanceOf(instanceOf, p);
+        }
+
+        @Override
+        public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+            UUID declaration = resolve(identifier);
+            if (declaration != null && VariableReferences.isRhsValue(getCursor())) {
+                index.reads.computeIfAbsent(declaration, k -> new ArrayList<>()).add(identifier);
+            }
+            return super.visitIdentifier(identifier, p);
+        }
+
+        @Override
+        public J.Assignment visitAssignment(J.Assignment assignment, Integer p) {
+            addWrite(assignment.getVariable(), assignment);
+            return super.visitAssignment(assignment, p);
+        }
+
+        @Override
+        public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, Integer p) {
+            addWrite(assignOp.getVariable(), assignOp);
+            return super.visitAssignmentOperation(assignOp, p);
+        }
+
+        @Override
+        public J.Unary visitUnary(J.Unary unary, Integer p) {
+            if (unary.getOperator().isModifying()) {
+                addWrite(unary.getExpression(), unary);
+            }
+            return super.visitUnary(unary, p);
+        }
+
+        private void addWrite(J target, Statement write) {
+            UUID declaration = null;
+            if (target instanceof J.Identifier) {
+                declaration = lookup(((J.Identifier) target).getSimpleName(), false);
+            } else if (isThisFieldAccess(target)) {
+                declaration = lookup(((J.FieldAccess) target).getSimpleName(), true);
+            }
+            if (declaration != null) {
+                index.writes.computeIfAbsent(declaration, k -> new ArrayList<>()).add(write);
+            }
+        }
+
+        private @Nullable UUID resolve(J.Identifier identifier) {
+            Object parent = getCursor().getParentTreeCursor().getValue();
+            if (parent instanceof J.FieldAccess) {
+                J.FieldAccess fieldAccess = (J.FieldAccess) parent;
+                if (fieldAccess.getName() == identifier) {
+                    return isThisFieldAccess(fieldAccess) ? lookup(identifier.getSimpleName(), true) : null;
+                }
+            } else if (parent instanceof J.MethodInvocation) {
+                if (((J.MethodInvocation) parent).getName() == identifier) {
+                    return null;
+                }
+            } else if (parent instanceof J.MemberReference) {
+                if (((J.MemberReference) parent).getReference() == identifier) {
+                    return null;
+                }
+            } else if (parent instanceof J.InstanceOf) {
+                if (((J.InstanceOf) parent).getPattern() == identifier) {
+                    return null;
+                }
+            } else if (parent instanceof J.MethodDeclaration || parent instanceof J.ClassDeclaration ||
+                       parent instanceof J.Break || parent instanceof J.Continue) {
+                return null;
+            } else if (parent instanceof J.Label) {
+                if (((J.Label) parent).getLabel() == identifier) {
+                    return null;
+                }
+            }
+            return lookup(identifier.getSimpleName(), false);
+        }
+
+        private @Nullable UUID lookup(String name, boolean fieldsOnly) {
+            for (Scope scope : scopes) {
+                if (fieldsOnly && !scope.classBody) {
+                    continue;
+                }
+                UUID declaration = scope.declarations.get(name);
+                if (declaration != null) {
+                    return declaration;
+                }
+                if (fieldsOnly) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        private static boolean isThisFieldAccess(J j) {
+            return j instanceof J.FieldAccess &&
+                   ((J.FieldAccess) j).getTarget() instanceof J.Identifier &&
+                   "this".equals(((J.Identifier) ((J.FieldAccess) j).getTarget()).getSimpleName());
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Set;
 
 import static java.util.Collections.singleton;
 
+@VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
 public class EmptyBlock extends Recipe {
 
     @Getter
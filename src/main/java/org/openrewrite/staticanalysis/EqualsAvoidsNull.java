@@ -21,7 +21,6 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
@@ -65,10 +64,10 @@ public class EqualsAvoidsNull extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesMethod<>(EQUALS_STRING),
-                        new UsesMethod<>(EQUALS_OBJECT),
-                        new UsesMethod<>(EQUALS_IGNORE_CASE),
-                        new UsesMethod<>(CONTENT_EQUALS)),
+                        PreconditionIndex.usesMethod(EQUALS_STRING),
+                        PreconditionIndex.usesMethod(EQUALS_OBJECT),
+                        PreconditionIndex.usesMethod(EQUALS_IGNORE_CASE),
+                        PreconditionIndex.usesMethod(CONTENT_EQUALS)),
                 new JavaVisitor<ExecutionContext>() {
                     @Override
                     public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
@@ -22,7 +22,6 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
@@ -31,9 +30,9 @@ import static java.util.Collections.singletonList;
 
 public class EqualsToContentEquals extends Recipe {
     private static final TreeVisitor<?, ExecutionContext> PRECONDITION = Preconditions.or(
-            new UsesType<>("java.lang.CharSequence", false),
-            new UsesType<>("java.lang.StringBuffer", false),
-            new UsesType<>("java.lang.StringBuilder", false)
+            PreconditionIndex.usesType("java.lang.CharSequence", false),
+            PreconditionIndex.usesType("java.lang.StringBuffer", false),
+            PreconditionIndex.usesType("java.lang.StringBuilder", false)
     );
 
     @Getter
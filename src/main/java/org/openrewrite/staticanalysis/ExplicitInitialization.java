@@ -30,6 +30,7 @@ import java.util.Set;
 import static java.util.Collections.singleton;
 import static org.openrewrite.Preconditions.or;
 
+@VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
 public class ExplicitInitialization extends Recipe {
 
     @Getter
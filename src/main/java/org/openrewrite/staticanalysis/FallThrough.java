@@ -27,6 +27,7 @@ import java.util.Set;
 
 import static java.util.Collections.singleton;
 
+@VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
 public class FallThrough extends Recipe {
     @Getter
     final String displayName = "Fall through";
@@ -21,6 +21,7 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.SourceFile;
 import org.openrewrite.Tree;
 import org.openrewrite.internal.ListUtils;
@@ -72,7 +73,8 @@ public class FallThroughVisitor<P> extends JavaIsoVisitor<P> {
         if (getCursor().firstEnclosing(J.Switch.class) != null) {
             J.Switch switch_ = requireNonNull(getCursor().firstEnclosing(J.Switch.class));
             if (Boolean.TRUE.equals(style.getCheckLastCaseGroup()) || !isLastCase(case_, switch_)) {
-                if (FindLastLineBreaksOrFallsThroughComments.find(switch_, c).isEmpty() && !FindInfiniteLoops.find(getCursor(), c)) {
+                if (canCompleteNormally(c.getStatements(), p) &&
+                    FindLastLineBreaksOrFallsThroughComments.find(switch_, c).isEmpty() && !FindInfiniteLoops.find(getCursor(), c)) {
                     c = (J.Case) new AddBreak<>(c).visitNonNull(c, p, getCursor().getParentOrThrow());
                 }
             }
@@ -80,6 +82,15 @@ public class FallThroughVisitor<P> extends JavaIsoVisitor<P> {
         return c;
     }
 
+    /**
+     * Whether control can reach the end of the statements of a case, and so fall through into the next one.
+     */
+    private boolean canCompleteNormally(List<Statement> statements, P p) {
+        return (p instanceof ExecutionContext ?
+                ControlFlow.firstNotCompletingNormally(statements, (ExecutionContext) p) :
+                ControlFlow.firstNotCompletingNormally(statements)) == -1;
+    }
+
     @RequiredArgsConstructor
     private static class AddBreak<P> extends JavaIsoVisitor<P> {
         private final J.Case scope;
@@ -131,13 +142,13 @@ public class FallThroughVisitor<P> extends JavaIsoVisitor<P> {
     private static class FindLastLineBreaksOrFallsThroughComments {
 
         /**
-         * If no results are found, it means we should append a {@link J.Break} to the provided {@link J.Case}.
-         * A result is added to the set when the last line of the provided {@link J.Case} scope is either an acceptable "break"-able type,
-         * specifically {@link J.Return}, {@link J.Break}, {@link J.Continue}, or {@link J.Throw}, or a "fallthrough" {@link Comment} matching a regular expression.
+         * If no results are found, it means we should append a {@link J.Break} to the provided {@link J.Case}, unless
+         * it cannot complete normally. A result is added to the set when the provided {@link J.Case} scope is empty,
+         * or its last line has a "fallthrough" {@link Comment} matching a regular expression.
          *
          * @param enclosingSwitch The enclosing {@link J.Switch} subtree to search.
          * @param scope           the {@link J.Case} to use as a target.
-         * @return A set representing whether the last {@link Statement} is an acceptable "break"-able type or has a "fallthrough" comment.
+         * @return A set representing whether the case is empty or has a "fallthrough" comment.
          */
         private static Set<J> find(J.Switch enclosingSwitch, J.Case scope) {
             Set<J> references = new HashSet<>();
@@ -152,59 +163,14 @@ public class FallThroughVisitor<P> extends JavaIsoVisitor<P> {
                             RELIEF_PATTERN.matcher(((TextComment) comment).getText()).find();
             private final J.Case scope;
 
-            private static boolean lastLineBreaksOrFallsThrough(List<? extends Statement> trees) {
+            private static boolean lastLineFallsThrough(List<? extends Statement> trees) {
                 return trees.stream()
                         .reduce((s1, s2) -> s2) // last statement
-                        .map(s -> breaks(s) || // https://github.com/openrewrite/rewrite-static-analysis/issues/173
-                                s.getComments().stream().anyMatch(HAS_RELIEF_PATTERN_COMMENT) ||
+                        .map(s -> s.getComments().stream().anyMatch(HAS_RELIEF_PATTERN_COMMENT) ||
                                 s instanceof J.Block && ((J.Block) s).getEnd().getComments().stream().anyMatch(HAS_RELIEF_PATTERN_COMMENT)
                         ).orElse(false);
             }
 
-            private static boolean breaks(Statement s) {
-                if (s instanceof J.Block) {
-                    List<Statement> statements = ((J.Block) s).getStatements();
-                    return !statements.isEmpty() && breaks(statements.get(statements.size() - 1));
-                }
-                if (s instanceof J.If) {
-                    J.If iff = (J.If) s;
-                    return iff.getElsePart() != null && breaks(iff.getThenPart());
-                }
-                if (s instanceof J.Label) {
-                    return breaks(((J.Label) s).getStatement());
-                }
-                if (s instanceof J.Try) {
-                    J.Try try_ = (J.Try) s;
-                    if (try_.getFinally() != null && breaks(try_.getFinally())) {
-                        return true;
-                    }
-                    if (!breaks(try_.getBody())) {
-                        return false;
-                    }
-                    for (J.Try.Catch c : try_.getCatches()) {
-                        if (!breaks(c.getBody())) {
-                            return false;
-                        }
-                    }
-                    return true;
-                }
-                if (s instanceof J.Switch) {
-                    // Arrow-style switches used as statements don't prevent fall-through
-                    J.Switch sw = (J.Switch) s;
-                    List<Statement> cases = sw.getCases().getStatements();
-                    for (Statement cs : cases) {
-                        if (cs instanceof J.Case && ((J.Case) cs).getType() == J.Case.Type.Rule) {
-                            return false;
-                        }
-                    }
-                    return true;
-                }
-                return s instanceof J.Return ||
-                        s instanceof J.Break ||
-                        s instanceof J.Continue ||
-                        s instanceof J.Throw;
-            }
-
             @Override
             public J.Switch visitSwitch(J.Switch switch_, Set<J> ctx) {
                 J.Switch s = super.visitSwitch(switch_, ctx);
@@ -240,7 +206,7 @@ public class FallThroughVisitor<P> extends JavaIsoVisitor<P> {
             @Override
             public J.Case visitCase(J.Case case_, Set<J> ctx) {
                 if (case_ == scope) {
-                    if (case_.getStatements().isEmpty() || lastLineBreaksOrFallsThrough(case_.getStatements())) {
+                    if (case_.getStatements().isEmpty() || lastLineFallsThrough(case_.getStatements())) {
                         ctx.add(case_);
                     }
                 }
@@ -26,6 +26,7 @@ import java.util.Set;
 
 import static java.util.Collections.singleton;
 
+@VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
 public class FinalClass extends Recipe {
     @Getter
     final String displayName = "Finalize classes with private constructors";
@@ -31,6 +31,7 @@ import java.util.*;
 import java.util.function.Predicate;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.*;
 import static org.openrewrite.staticanalysis.csharp.CSharpFileChecker.isInstanceOfCs;
 
@@ -44,22 +45,11 @@ public class FinalizePrivateFields extends Recipe {
     @Getter
     final Duration estimatedEffortPerOccurrence = Duration.ofMinutes(2);
 
+    private static final String PRIVATE_FIELDS_TO_BE_FINALIZED = "PRIVATE_FIELDS_TO_BE_FINALIZED";
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return new JavaIsoVisitor<ExecutionContext>() {
-            private Set<JavaType.Variable> privateFieldsToBeFinalized = new HashSet<>();
-
-            @Nullable
-            private SourceFile topLevel;
-
-            @Override
-            public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
-                if (topLevel == null && tree instanceof SourceFile) {
-                    topLevel = (SourceFile) tree;
-                }
-                return super.visit(tree, ctx);
-            }
-
             @Override
             public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                 if (!service(AnnotationService.class).getAllAnnotations(getCursor()).isEmpty()) {
@@ -81,7 +71,7 @@ public class FinalizePrivateFields extends Recipe {
 
                 CollectPrivateFieldsAssignmentCounts.collect(classDecl, privateFieldAssignCountMap);
 
-                privateFieldsToBeFinalized = privateFieldAssignCountMap.entrySet()
+                Set<JavaType.Variable> privateFieldsToBeFinalized = privateFieldAssignCountMap.entrySet()
                         .stream()
                         .filter(entry -> entry.getValue() == 1)
                         .map(Map.Entry::getKey)
@@ -98,6 +88,7 @@ public class FinalizePrivateFields extends Recipe {
                 if (!uninitializedFinalizable.isEmpty()) {
                     privateFieldsToBeFinalized.removeAll(findFieldsReadInDeferredInitializer(classDecl, uninitializedFinalizable));
                 }
+                getCursor().putMessage(PRIVATE_FIELDS_TO_BE_FINALIZED, privateFieldsToBeFinalized);
 
                 return super.visitClassDeclaration(classDecl, ctx);
             }
@@ -107,18 +98,20 @@ public class FinalizePrivateFields extends Recipe {
                                                                     ExecutionContext ctx) {
                 J.VariableDeclarations mv = super.visitVariableDeclarations(multiVariable, ctx);
 
+                Set<JavaType.Variable> privateFieldsToBeFinalized = getCursor().getNearestMessage(PRIVATE_FIELDS_TO_BE_FINALIZED, emptySet());
                 boolean canAllVariablesBeFinalized = mv.getVariables()
                         .stream()
                         .map(J.VariableDeclarations.NamedVariable::getVariableType)
                         .allMatch(privateFieldsToBeFinalized::contains);
 
                 if (canAllVariablesBeFinalized) {
+                    boolean cs = isInstanceOfCs(getCursor().firstEnclosing(SourceFile.class));
                     return mv.withVariables(ListUtils.map(mv.getVariables(), v -> {
                         JavaType.Variable type = v.getVariableType();
                         return type != null ? v.withVariableType(type.withFlags(Flag.bitMapToFlags(type.getFlagsBitMap() | Flag.Final.getBitMask()))) : null;
                     })).withModifiers(ListUtils.concat(mv.getModifiers(),
-                            new J.Modifier(Tree.randomId(), mv.getModifiers().isEmpty() ? Space.EMPTY : Space.SINGLE_SPACE, Markers.EMPTY, isInstanceOfCs(topLevel) ? "readonly" : "final",
-                                    isInstanceOfCs(topLevel) ? J.Modifier.Type.LanguageExtension : J.Modifier.Type.Final, emptyList())));
+                            new J.Modifier(Tree.randomId(), mv.getModifiers().isEmpty() ? Space.EMPTY : Space.SINGLE_SPACE, Markers.EMPTY, cs ? "readonly" : "final",
+                                    cs ? J.Modifier.Type.LanguageExtension : J.Modifier.Type.Final, emptyList())));
                 }
 
                 return mv;
@@ -135,6 +128,7 @@ public class FinalizePrivateFields extends Recipe {
             private List<J.VariableDeclarations.NamedVariable> collectPrivateFields(Cursor classCursor) {
                 J.ClassDeclaration classDecl = classCursor.getValue();
                 Cursor bodyCursor = new Cursor(classCursor, classDecl.getBody());
+                boolean cs = isInstanceOfCs(classCursor.firstEnclosing(SourceFile.class));
                 return classDecl.getBody()
                         .getStatements()
                         .stream()
@@ -142,7 +136,7 @@ public class FinalizePrivateFields extends Recipe {
                         .map(J.VariableDeclarations.class::cast)
                         .filter(mv -> mv.hasModifier(J.Modifier.Type.Private) &&
                                 !mv.hasModifier(J.Modifier.Type.Final) &&
-                                (!isInstanceOfCs(topLevel) || mv.getModifiers().stream().noneMatch(m -> "readonly".equals(m.getKeyword()) || "const".equals(m.getKeyword()))) &&
+                                (!cs || mv.getModifiers().stream().noneMatch(m -> "readonly".equals(m.getKeyword()) || "const".equals(m.getKeyword()))) &&
                                 !mv.hasModifier(J.Modifier.Type.Volatile))
                         .filter(mv -> !anyAnnotationApplied(new Cursor(bodyCursor, mv)))
                         .map(J.VariableDeclarations::getVariables)
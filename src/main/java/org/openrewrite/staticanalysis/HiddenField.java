@@ -26,6 +26,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Incubating(since = "7.6.0")
+@VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
 public class HiddenField extends Recipe {
     @Getter
     final String displayName = "Hidden field";
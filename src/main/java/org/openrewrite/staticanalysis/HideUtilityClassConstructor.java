@@ -26,6 +26,7 @@ import java.util.Set;
 import static java.util.Collections.singleton;
 
 @Incubating(since = "7.0.0")
+@VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
 public class HideUtilityClassConstructor extends Recipe {
 
     @Getter
@@ -20,7 +20,6 @@ import org.openrewrite.*;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 import java.util.Set;
@@ -47,7 +46,7 @@ public class IndexOfReplaceableByContains extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(new UsesMethod<>(STRING_INDEX_MATCHER), new UsesMethod<>(LIST_INDEX_MATCHER)),
+        return Preconditions.check(Preconditions.or(PreconditionIndex.usesMethod(STRING_INDEX_MATCHER), PreconditionIndex.usesMethod(LIST_INDEX_MATCHER)),
                 new JavaVisitor<ExecutionContext>() {
                     @Override
                     public J visitBinary(J.Binary binary, ExecutionContext ctx) {
@@ -19,7 +19,6 @@ import lombok.Getter;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 import java.time.Duration;
@@ -50,7 +49,7 @@ public class IndexOfShouldNotCompareGreaterThanZero extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(new UsesMethod<>(STRING_INDEX_MATCHER), new UsesMethod<>(LIST_INDEX_MATCHER)),
+        return Preconditions.check(Preconditions.or(PreconditionIndex.usesMethod(STRING_INDEX_MATCHER), PreconditionIndex.usesMethod(LIST_INDEX_MATCHER)),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Binary visitBinary(J.Binary binary, ExecutionContext ctx) {
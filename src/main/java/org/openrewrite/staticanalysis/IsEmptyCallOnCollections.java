@@ -23,7 +23,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaCoordinates;
@@ -55,7 +54,7 @@ public class IsEmptyCallOnCollections extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(COLLECTION_SIZE), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(PreconditionIndex.usesMethod(COLLECTION_SIZE), new JavaVisitor<ExecutionContext>() {
 
             @Override
             public J visitBinary(J.Binary binary, ExecutionContext ctx) {
@@ -18,19 +18,19 @@ package org.openrewrite.staticanalysis;
 import lombok.Getter;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.java.ChangePackage;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.*;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
 
 import static java.util.Collections.singleton;
 import static java.util.Objects.requireNonNull;
 
-public class LowercasePackage extends ScanningRecipe<Map<String, String>> {
+public class LowercasePackage extends ScanningRecipe<LowercasePackage.Accumulator> {
 
     @Getter
     final String displayName = "Rename packages to lowercase";
@@ -44,12 +44,12 @@ public class LowercasePackage extends ScanningRecipe<Map<String, String>> {
     final Set<String> tags = singleton("RSPEC-S120");
 
     @Override
-    public Map<String, String> getInitialValue(ExecutionContext ctx) {
-        return new HashMap<>();
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getScanner(Map<String, String> acc) {
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public @Nullable J preVisit(J tree, ExecutionContext ctx) {
@@ -57,7 +57,7 @@ public class LowercasePackage extends ScanningRecipe<Map<String, String>> {
                     JavaSourceFile cu = (JavaSourceFile) requireNonNull(tree);
                     J.Package pkg = cu.getPackageDeclaration();
                     if (pkg != null) {
-                        String packageText = getPackageText(getCursor(), pkg);
+                        String packageText = getPackageText(pkg);
                         String lowerCase = packageText.toLowerCase();
                         if (!packageText.equals(lowerCase)) {
                             acc.put(packageText, lowerCase);
@@ -71,28 +71,277 @@ public class LowercasePackage extends ScanningRecipe<Map<String, String>> {
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor(Map<String, String> acc) {
-        return Preconditions.check(!acc.isEmpty(), new JavaIsoVisitor<ExecutionContext>() {
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return Preconditions.check(!acc.getPackages().isEmpty(), new TreeVisitor<Tree, ExecutionContext>() {
             @Override
-            public J preVisit(J tree, ExecutionContext ctx) {
-                if (tree instanceof JavaSourceFile) {
-                    JavaSourceFile cu = (JavaSourceFile) requireNonNull(tree);
-                    J.Package pkg = cu.getPackageDeclaration();
-                    if (pkg != null) {
-                        String packageText = getPackageText(getCursor(), pkg);
-                        if (acc.containsKey(packageText)) {
-                            return (JavaSourceFile) new ChangePackage(packageText, acc.get(packageText), true)
-                                    .getVisitor().visitNonNull(cu, ctx);
-                        }
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                return tree instanceof JavaSourceFile ? new RenamePackages(acc.trie()).rename((JavaSourceFile) tree, ctx) : tree;
+            }
+        });
+    }
+
+    /**
+     * @return The package name, from the identifiers of the package declaration rather than by printing it.
+     */
+    private static String getPackageText(J.Package pkg) {
+        return getPackageText(pkg.getExpression());
+    }
+
+    private static String getPackageText(Expression name) {
+        StringBuilder packageText = new StringBuilder();
+        appendPackageText(name, packageText);
+        return packageText.toString();
+    }
+
+    private static void appendPackageText(Expression expression, StringBuilder packageText) {
+        if (expression instanceof J.FieldAccess) {
+            J.FieldAccess fieldAccess = (J.FieldAccess) expression;
+            appendPackageText(fieldAccess.getTarget(), packageText);
+            packageText.append('.').append(fieldAccess.getSimpleName());
+        } else if (expression instanceof J.Identifier) {
+            packageText.append(((J.Identifier) expression).getSimpleName());
+        }
+    }
+
+    /**
+     * Renames the packages of a source file in a single pass: its package declaration, its imports, the fully
+     * qualified type references in its code and the types it is attributed with. Each name is looked up in the
+     * trie once. Lowercasing a package does not change its number of segments, so names are renamed segment by
+     * segment, keeping their formatting.
+     */
+    private static class RenamePackages extends JavaVisitor<ExecutionContext> {
+        private final PackageNode trie;
+        private final Map<JavaType, JavaType> updatedTypes = new IdentityHashMap<>();
+
+        RenamePackages(PackageNode trie) {
+            this.trie = trie;
+        }
+
+        JavaSourceFile rename(JavaSourceFile cu, ExecutionContext ctx) {
+            if (!refersToRenamedPackage(cu)) {
+                return cu;
+            }
+            JavaSourceFile after = (JavaSourceFile) visitNonNull(cu, ctx);
+            J.Package pkg = cu.getPackageDeclaration();
+            if (pkg != null) {
+                String oldPackage = getPackageText(pkg);
+                String newPackage = trie.rename(oldPackage);
+                if (newPackage != null) {
+                    after = moveSourcePath(after, oldPackage, newPackage);
+                }
+            }
+            return after;
+        }
+
+        private boolean refersToRenamedPackage(JavaSourceFile cu) {
+            J.Package pkg = cu.getPackageDeclaration();
+            if (pkg != null && trie.rename(getPackageText(pkg)) != null) {
+                return true;
+            }
+            for (J.Import anImport : cu.getImports()) {
+                if (trie.rename(getPackageText(anImport.getQualid())) != null) {
+                    return true;
+                }
+            }
+            for (JavaType javaType : cu.getTypesInUse().getTypesInUse()) {
+                if (javaType instanceof JavaType.FullyQualified &&
+                    trie.rename(((JavaType.FullyQualified) javaType).getPackageName()) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public J visitPackage(J.Package pkg, ExecutionContext ctx) {
+            return pkg.withExpression(renameSegments(pkg.getExpression()));
+        }
+
+        @Override
+        public J visitImport(J.Import anImport, ExecutionContext ctx) {
+            return anImport.withQualid(renameSegments(anImport.getQualid()));
+        }
+
+        /**
+         * Renames the package of a fully qualified type reference such as {@code com.Outer.A}, which is a field
+         * access of the type name on the package name. Field accesses on anything else are left alone, even
+         * when they happen to read like a renamed package.
+         */
+        @Override
+        public J visitFieldAccess(J.FieldAccess fieldAccess, ExecutionContext ctx) {
+            J.FieldAccess f = (J.FieldAccess) super.visitFieldAccess(fieldAccess, ctx);
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(fieldAccess.getType());
+            if (type != null && type.getPackageName().equals(getPackageText(fieldAccess.getTarget()))) {
+                f = f.withTarget(renameSegments(f.getTarget()));
+            }
+            return f;
+        }
+
+        @Override
+        public @Nullable JavaType visitType(@Nullable JavaType javaType, ExecutionContext ctx) {
+            return updateType(javaType);
+        }
+
+        private <E extends Expression> E renameSegments(E name) {
+            String oldName = getPackageText(name);
+            String newName = trie.rename(oldName);
+            if (newName == null || newName.equals(oldName)) {
+                return name;
+            }
+            String[] segments = newName.split("\\.");
+            return renameSegments(name, segments, segments.length - 1);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <E extends Expression> E renameSegments(E name, String[] segments, int last) {
+            if (name instanceof J.FieldAccess) {
+                J.FieldAccess fieldAccess = (J.FieldAccess) name;
+                return (E) fieldAccess
+                        .withTarget(renameSegments(fieldAccess.getTarget(), segments, last - 1))
+                        .withName(fieldAccess.getName().withSimpleName(segments[last]))
+                        .withType(updateType(fieldAccess.getType()));
+            } else if (name instanceof J.Identifier) {
+                J.Identifier identifier = (J.Identifier) name;
+                return (E) identifier.withSimpleName(segments[last]).withType(updateType(identifier.getType()));
+            }
+            return name;
+        }
+
+        private @Nullable JavaType updateType(@Nullable JavaType type) {
+            if (type == null) {
+                return null;
+            }
+            JavaType updated = updatedTypes.get(type);
+            if (updated == null) {
+                // Guards against cycles through type parameters and bounds
+                updatedTypes.put(type, type);
+                updated = computeUpdatedType(type);
+                updatedTypes.put(type, updated);
+            }
+            return updated;
+        }
+
+        private JavaType computeUpdatedType(JavaType type) {
+            if (type instanceof JavaType.Parameterized) {
+                JavaType.Parameterized parameterized = (JavaType.Parameterized) type;
+                return parameterized
+                        .withType((JavaType.FullyQualified) requireNonNull(updateType(parameterized.getType())))
+                        .withTypeParameters(ListUtils.map(parameterized.getTypeParameters(), this::updateType));
+            } else if (type instanceof JavaType.FullyQualified) {
+                JavaType.FullyQualified fullyQualified = (JavaType.FullyQualified) type;
+                String newPackage = trie.rename(fullyQualified.getPackageName());
+                return newPackage == null ? fullyQualified : fullyQualified.withFullyQualifiedName(
+                        newPackage + fullyQualified.getFullyQualifiedName().substring(fullyQualified.getPackageName().length()));
+            } else if (type instanceof JavaType.Method) {
+                JavaType.Method method = (JavaType.Method) type;
+                return method
+                        .withDeclaringType((JavaType.FullyQualified) requireNonNull(updateType(method.getDeclaringType())))
+                        .withReturnType(updateType(method.getReturnType()))
+                        .withParameterTypes(ListUtils.map(method.getParameterTypes(), this::updateType));
+            } else if (type instanceof JavaType.Variable) {
+                JavaType.Variable variable = (JavaType.Variable) type;
+                return variable.withOwner(updateType(variable.getOwner())).withType(updateType(variable.getType()));
+            } else if (type instanceof JavaType.Array) {
+                JavaType.Array array = (JavaType.Array) type;
+                return array.withElemType(requireNonNull(updateType(array.getElemType())));
+            } else if (type instanceof JavaType.GenericTypeVariable) {
+                JavaType.GenericTypeVariable variable = (JavaType.GenericTypeVariable) type;
+                return variable.withBounds(ListUtils.map(variable.getBounds(), this::updateType));
+            }
+            return type;
+        }
+
+        /**
+         * Moves the source file from the directory of its old package to that of its new package, when it is in
+         * the directory of its old package at all.
+         */
+        private static JavaSourceFile moveSourcePath(JavaSourceFile cu, String oldPackage, String newPackage) {
+            Path sourcePath = cu.getSourcePath();
+            String fileName = String.valueOf(sourcePath.getFileName());
+            String path = sourcePath.toString().replace('\\', '/');
+            String oldSuffix = oldPackage.replace('.', '/') + '/' + fileName;
+            if (path.equals(oldSuffix) || path.endsWith('/' + oldSuffix)) {
+                return cu.withSourcePath(Paths.get(path.substring(0, path.length() - oldSuffix.length()) +
+                                                   newPackage.replace('.', '/') + '/' + fileName));
+            }
+            return cu;
+        }
+    }
+
+    /**
+     * The packages to rename, from their names as declared to their lowercase names. They are also arranged in a
+     * trie of package name segments, so that every package a source file refers to is matched against all
+     * packages to rename in one walk down its segments.
+     */
+    public static class Accumulator {
+        @Getter
+        private final Map<String, String> packages = new HashMap<>();
+
+        @Nullable
+        private PackageNode trie;
+
+        synchronized void put(String oldPackage, String newPackage) {
+            packages.put(oldPackage, newPackage);
+            trie = null;
+        }
+
+        synchronized PackageNode trie() {
+            if (trie == null) {
+                PackageNode root = new PackageNode(0);
+                for (Map.Entry<String, String> rename : packages.entrySet()) {
+                    PackageNode node = root;
+                    for (String segment : rename.getKey().split("\\.")) {
+                        int depth = node.depth + 1;
+                        node = node.children.computeIfAbsent(segment, k -> new PackageNode(depth));
                     }
-                    stopAfterPreVisit();
+                    node.oldPackage = rename.getKey();
+                    node.newPackage = rename.getValue();
                 }
-                return tree;
+                trie = root;
             }
-        });
+            return trie;
+        }
     }
 
-    private String getPackageText(Cursor cursor, J.Package pkg) {
-        return pkg.getExpression().print(cursor).replaceAll("\\s", "");
+    private static class PackageNode {
+        final int depth;
+        final Map<String, PackageNode> children = new HashMap<>();
+
+        @Nullable
+        String oldPackage;
+
+        @Nullable
+        String newPackage;
+
+        PackageNode(int depth) {
+            this.depth = depth;
+        }
+
+        /**
+         * @return The name with its package renamed, by the deepest package to rename that is the package of the
+         * name or one of its parent packages, or {@code null} when there is no such package.
+         */
+        @Nullable
+        String rename(String name) {
+            PackageNode node = this;
+            PackageNode deepest = null;
+            int start = 0;
+            while (start <= name.length()) {
+                int end = name.indexOf('.', start);
+                if (end < 0) {
+                    end = name.length();
+                }
+                node = node.children.get(name.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                if (node.oldPackage != null) {
+                    deepest = node;
+                }
+                start = end + 1;
+            }
+            return deepest == null ? null :
+                    requireNonNull(deepest.newPackage) + name.substring(requireNonNull(deepest.oldPackage).length());
+        }
     }
 }
@@ -18,7 +18,6 @@ package org.openrewrite.staticanalysis;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
-import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
@@ -35,7 +34,7 @@ import org.openrewrite.staticanalysis.java.JavaFileChecker;
 import java.time.Duration;
 import java.util.*;
 
-import static java.util.Collections.singleton;
+import static java.util.Collections.*;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -58,58 +57,49 @@ public class MemberNameCaseInsensitiveDuplicates extends Recipe {
             public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                 J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
 
-                // Collect member names from parent classes and interfaces, keyed by lowercase
-                Set<String> inheritedNames = new HashSet<>();
-                Map<String, Set<String>> inheritedByLowerCase = new HashMap<>();
+                // Member names of parent classes and interfaces, keyed by lowercase
+                Map<String, Set<String>> inheritedByLowerCase = emptyMap();
                 JavaType.FullyQualified type = TypeUtils.asFullyQualified(cd.getType());
                 if (type != null) {
-                    Set<String> visited = new HashSet<>();
-                    collectInheritedNames(type.getSupertype(), inheritedNames, visited);
-                    for (JavaType.FullyQualified iface : type.getInterfaces()) {
-                        collectInheritedNames(iface, inheritedNames, visited);
-                    }
-                    for (String name : inheritedNames) {
-                        inheritedByLowerCase.computeIfAbsent(name.toLowerCase(), k -> new HashSet<>()).add(name);
-                    }
+                    InheritedNames inheritedNames = ctx.computeMessageIfAbsent(InheritedNames.class.getName(), k -> new InheritedNames());
+                    inheritedByLowerCase = inheritedNames.inheritedBy(type);
                 }
 
-                // Collect current class member names
-                List<MemberInfo> currentMembers = new ArrayList<>();
+                // Group current class member names by lowercase
+                Map<String, List<MemberInfo>> currentByLowerCase = new HashMap<>();
                 for (Object stmt : cd.getBody().getStatements()) {
                     if (stmt instanceof J.VariableDeclarations) {
                         for (J.VariableDeclarations.NamedVariable var : ((J.VariableDeclarations) stmt).getVariables()) {
-                            currentMembers.add(new MemberInfo(var.getSimpleName(), var));
+                            addMember(currentByLowerCase, new MemberInfo(var.getSimpleName(), var));
                         }
                     } else if (stmt instanceof J.MethodDeclaration) {
                         J.MethodDeclaration method = (J.MethodDeclaration) stmt;
                         if (method.isConstructor()) {
                             continue;
                         }
-                        currentMembers.add(new MemberInfo(method.getSimpleName(), method));
+                        addMember(currentByLowerCase, new MemberInfo(method.getSimpleName(), method));
                     }
                 }
 
                 // Check each current member against inherited names and other current members
                 Set<J> marked = new HashSet<>();
-                for (int i = 0; i < currentMembers.size(); i++) {
-                    MemberInfo member = currentMembers.get(i);
-
-                    // Check against inherited names via O(1) lookup
-                    Set<String> sameKey = inheritedByLowerCase.get(member.name.toLowerCase());
-                    if (sameKey != null && !sameKey.contains(member.name)) {
-                        marked.add(member.tree);
+                for (Map.Entry<String, List<MemberInfo>> group : currentByLowerCase.entrySet()) {
+                    Set<String> sameKey = inheritedByLowerCase.getOrDefault(group.getKey(), emptySet());
+                    List<MemberInfo> members = group.getValue();
+                    boolean differentNamesInClass = false;
+                    for (MemberInfo member : members) {
+                        if (!member.name.equals(members.get(0).name)) {
+                            differentNamesInClass = true;
+                            break;
+                        }
                     }
-
-                    // Check against other members in the same class
-                    for (int j = i + 1; j < currentMembers.size(); j++) {
-                        MemberInfo other = currentMembers.get(j);
-                        if (member.name.equalsIgnoreCase(other.name) && !member.name.equals(other.name)) {
-                            if (!inheritedNames.contains(member.name)) {
-                                marked.add(member.tree);
-                            }
-                            if (!inheritedNames.contains(other.name)) {
-                                marked.add(other.tree);
-                            }
+                    for (MemberInfo member : members) {
+                        if (sameKey.contains(member.name)) {
+                            // Overrides or hides an inherited member, which is where the name comes from
+                            continue;
+                        }
+                        if (!sameKey.isEmpty() || differentNamesInClass) {
+                            marked.add(member.tree);
                         }
                     }
                 }
@@ -134,24 +124,8 @@ public class MemberNameCaseInsensitiveDuplicates extends Recipe {
                 })));
             }
 
-            private void collectInheritedNames(JavaType.@Nullable FullyQualified type, Set<String> names, Set<String> visited) {
-                if (type == null || !visited.add(type.getFullyQualifiedName())) {
-                    return;
-                }
-                for (JavaType.Variable member : type.getMembers()) {
-                    if (!member.hasFlags(Flag.Private)) {
-                        names.add(member.getName());
-                    }
-                }
-                for (JavaType.Method method : type.getMethods()) {
-                    if (!method.isConstructor() && !method.hasFlags(Flag.Private)) {
-                        names.add(method.getName());
-                    }
-                }
-                collectInheritedNames(type.getSupertype(), names, visited);
-                for (JavaType.FullyQualified iface : type.getInterfaces()) {
-                    collectInheritedNames(iface, names, visited);
-                }
+            private void addMember(Map<String, List<MemberInfo>> byLowerCase, MemberInfo member) {
+                byLowerCase.computeIfAbsent(member.name.toLowerCase(), k -> new ArrayList<>(1)).add(member);
             }
         });
     }
@@ -161,4 +135,86 @@ public class MemberNameCaseInsensitiveDuplicates extends Recipe {
         final String name;
         final J tree;
     }
+
+    /**
+     * The names of the non-private members that types declare or inherit, keyed by lowercase. Many classes of a
+     * code base extend the same deep framework types, so the names of each type are collected once per recipe run
+     * from those of its direct supertypes, and kept for the {@link #MAX_TYPES} most recently used types.
+     */
+    private static class InheritedNames {
+        private static final int MAX_TYPES = 4096;
+
+        private final Map<String, Map<String, Set<String>>> namesByType = new LinkedHashMap<String, Map<String, Set<String>>>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Set<String>>> eldest) {
+                return size() > MAX_TYPES;
+            }
+        };
+
+        /**
+         * @return The names of the members that the type inherits from its supertype and interfaces.
+         */
+        Map<String, Set<String>> inheritedBy(JavaType.FullyQualified type) {
+            Set<String> inProgress = new HashSet<>();
+            inProgress.add(type.getFullyQualifiedName());
+            return merge(type, inProgress, new HashMap<>());
+        }
+
+        /**
+         * @return The names of the members that the type declares or inherits.
+         */
+        private Map<String, Set<String>> namesOf(JavaType.FullyQualified type, Set<String> inProgress) {
+            String fqn = type.getFullyQualifiedName();
+            synchronized (this) {
+                Map<String, Set<String>> names = namesByType.get(fqn);
+                if (names != null) {
+                    return names;
+                }
+            }
+            if (!inProgress.add(fqn)) {
+                // Only an erroneous type hierarchy is cyclic
+                return emptyMap();
+            }
+            Map<String, Set<String>> names = new HashMap<>();
+            for (JavaType.Variable member : type.getMembers()) {
+                if (!member.hasFlags(Flag.Private)) {
+                    add(names, member.getName());
+                }
+            }
+            for (JavaType.Method method : type.getMethods()) {
+                if (!method.isConstructor() && !method.hasFlags(Flag.Private)) {
+                    add(names, method.getName());
+                }
+            }
+            names = merge(type, inProgress, names);
+            inProgress.remove(fqn);
+            synchronized (this) {
+                namesByType.put(fqn, names);
+            }
+            return names;
+        }
+
+        private Map<String, Set<String>> merge(JavaType.FullyQualified type, Set<String> inProgress, Map<String, Set<String>> names) {
+            List<JavaType.FullyQualified> supertypes = new ArrayList<>(type.getInterfaces().size() + 1);
+            JavaType.FullyQualified supertype = type.getSupertype();
+            if (supertype != null) {
+                supertypes.add(supertype);
+            }
+            supertypes.addAll(type.getInterfaces());
+            if (names.isEmpty() && supertypes.size() == 1) {
+                // Nothing to add, so share the supertype's names rather than copying them
+                return namesOf(supertypes.get(0), inProgress);
+            }
+            for (JavaType.FullyQualified parent : supertypes) {
+                for (Map.Entry<String, Set<String>> entry : namesOf(parent, inProgress).entrySet()) {
+                    names.computeIfAbsent(entry.getKey(), k -> new HashSet<>(2)).addAll(entry.getValue());
+                }
+            }
+            return names;
+        }
+
+        private static void add(Map<String, Set<String>> names, String name) {
+            names.computeIfAbsent(name.toLowerCase(), k -> new HashSet<>(2)).add(name);
+        }
+    }
 }
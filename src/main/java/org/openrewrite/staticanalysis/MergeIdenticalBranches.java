@@ -20,7 +20,6 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.SemanticallyEqual;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
@@ -57,11 +56,11 @@ public class MergeIdenticalBranches extends Recipe {
                     return if__;
                 }
 
-                J.If merged = mergeConsecutiveIdentical(if__);
+                J.If merged = mergeConsecutiveIdentical(if__, ctx);
                 return merged != if__ ? merged : if__;
             }
 
-            private J.If mergeConsecutiveIdentical(J.If outerIf) {
+            private J.If mergeConsecutiveIdentical(J.If outerIf, ExecutionContext ctx) {
                 if (outerIf.getElsePart() == null) {
                     return outerIf;
                 }
@@ -71,7 +70,7 @@ public class MergeIdenticalBranches extends Recipe {
                 if (elseBody instanceof J.If) {
                     J.If elseIf = (J.If) elseBody;
 
-                    if (SemanticallyEqual.areEqual(outerIf.getThenPart(), elseIf.getThenPart())) {
+                    if (SemanticEqualityCache.areEqual(outerIf.getThenPart(), elseIf.getThenPart(), ctx)) {
                         // Merge: combine conditions with ||, skip the else-if
                         Expression combined = JavaElementFactory.newLogicalExpression(
                                 J.Binary.Type.Or,
@@ -84,11 +83,11 @@ public class MergeIdenticalBranches extends Recipe {
                                 .withElsePart(elseIf.getElsePart());
 
                         // Continue merging in case the next branch also matches
-                        return mergeConsecutiveIdentical(merged);
+                        return mergeConsecutiveIdentical(merged, ctx);
                     }
 
                     // Recurse into the rest of the chain
-                    J.If rebuiltElseIf = mergeConsecutiveIdentical(elseIf);
+                    J.If rebuiltElseIf = mergeConsecutiveIdentical(elseIf, ctx);
                     if (rebuiltElseIf != elseIf) {
                         return outerIf.withElsePart(outerIf.getElsePart().withBody(rebuiltElseIf));
                     }
@@ -16,6 +16,7 @@
 package org.openrewrite.staticanalysis;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
@@ -33,11 +34,12 @@ import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.*;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
-public class MethodNameCasing extends ScanningRecipe<List<MethodNameCasing.MethodNameChange>> {
+public class MethodNameCasing extends ScanningRecipe<MethodNameCasing.Accumulator> {
 
     @Option(displayName = "Apply recipe to test source set",
             description = "Changes only apply to main by default. `includeTestSources` will apply the recipe to `test` source files.",
@@ -63,19 +65,16 @@ public class MethodNameCasing extends ScanningRecipe<List<MethodNameCasing.Metho
     Set<String> tags = singleton("RSPEC-S100");
 
     @Override
-    public List<MethodNameChange> getInitialValue(ExecutionContext ctx) {
-        return new ArrayList<>();
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getScanner(List<MethodNameChange> changes) {
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
         return new JavaIsoVisitor<ExecutionContext>() {
-            UUID scope;
-
             @Override
             public J preVisit(J tree, ExecutionContext ctx) {
                 if (tree instanceof JavaSourceFile) {
-                    scope = tree.getId();
                     JavaSourceFile cu = (JavaSourceFile) tree;
                     Optional<JavaSourceSet> sourceSet = cu.getMarkers().findFirst(JavaSourceSet.class);
                     if (!sourceSet.isPresent()) {
@@ -105,9 +104,11 @@ public class MethodNameCasing extends ScanningRecipe<List<MethodNameCasing.Metho
                         !toName.equals(simpleName) &&
                         !StringUtils.isNumeric(toName) &&
                         !methodExists(method.getMethodType(), toName)) {
-                        changes.add(new MethodNameChange(
-                                scope,
+                        acc.add(new MethodNameChange(
+                                getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getId(),
                                 method.hasModifier(J.Modifier.Type.Private),
+                                method.getMethodType().getDeclaringType().getFullyQualifiedName(),
+                                simpleName,
                                 new ChangeMethodName(MethodMatcher.methodPattern(method), toName, false, false))
                         );
                     }
@@ -127,28 +128,200 @@ public class MethodNameCasing extends ScanningRecipe<List<MethodNameCasing.Metho
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor(List<MethodNameChange> changes) {
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
         return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J visit(@Nullable Tree tree, ExecutionContext ctx) {
                 if (tree instanceof JavaSourceFile) {
                     JavaSourceFile cu = (JavaSourceFile) tree;
-                    for (MethodNameChange nameChange : changes) {
-                        if (!nameChange.isPrivateMethod() || tree.getId().equals(nameChange.getScope())) {
-                            cu = (JavaSourceFile) nameChange.getRecipe().getVisitor().visitNonNull(cu, ctx);
-                        }
-                    }
-                    return cu;
+                    Map<String, Map<String, List<Rename>>> renames = acc.renamesIn(cu);
+                    return renames.isEmpty() ? cu : new RenameMethods(renames).visitNonNull(cu, ctx);
                 }
                 return (J) tree;
             }
         };
     }
 
+    /**
+     * The renames found by the scanner, indexed by the fully qualified name of the declaring type and the
+     * current simple name of the method, so that each source file is only matched against the renames of
+     * methods it declares or uses.
+     */
+    public static class Accumulator {
+        @Getter
+        private final List<MethodNameChange> changes = new ArrayList<>();
+
+        private final Map<String, Map<String, List<Rename>>> index = new HashMap<>();
+
+        synchronized void add(MethodNameChange change) {
+            changes.add(change);
+            MethodMatcher matcher = new MethodMatcher(change.getRecipe().getMethodPattern(), false);
+            index.computeIfAbsent(change.getDeclaringType(), k -> new HashMap<>())
+                    .computeIfAbsent(change.getOldName(), k -> new ArrayList<>())
+                    .add(new Rename(change, matcher));
+        }
+
+        /**
+         * @return The renames that may apply to the source file, for the methods it declares or uses and the
+         * methods it imports statically.
+         */
+        synchronized Map<String, Map<String, List<Rename>>> renamesIn(JavaSourceFile cu) {
+            if (index.isEmpty()) {
+                return emptyMap();
+            }
+            Map<String, Map<String, List<Rename>>> renames = new HashMap<>();
+            for (JavaType.Method method : cu.getTypesInUse().getDeclaredMethods()) {
+                addRenames(cu, method.getDeclaringType().getFullyQualifiedName(), method.getName(), renames);
+            }
+            for (JavaType.Method method : cu.getTypesInUse().getUsedMethods()) {
+                addRenames(cu, method.getDeclaringType().getFullyQualifiedName(), method.getName(), renames);
+            }
+            for (J.Import anImport : cu.getImports()) {
+                if (anImport.isStatic()) {
+                    addRenames(cu, anImport.getTypeName(), anImport.getQualid().getSimpleName(), renames);
+                }
+            }
+            return renames;
+        }
+
+        private void addRenames(JavaSourceFile cu, String declaringType, String name, Map<String, Map<String, List<Rename>>> renames) {
+            List<Rename> candidates = index.getOrDefault(declaringType, emptyMap()).get(name);
+            if (candidates == null) {
+                return;
+            }
+            for (Rename rename : candidates) {
+                if (!rename.change.isPrivateMethod() || cu.getId().equals(rename.change.getScope())) {
+                    List<Rename> forName = renames.computeIfAbsent(declaringType, k -> new HashMap<>())
+                            .computeIfAbsent(name, k -> new ArrayList<>());
+                    if (!forName.contains(rename)) {
+                        forName.add(rename);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class Rename {
+        final MethodNameChange change;
+        final MethodMatcher matcher;
+
+        Rename(MethodNameChange change, MethodMatcher matcher) {
+            this.change = change;
+            this.matcher = matcher;
+        }
+    }
+
+    /**
+     * Applies all renames of a source file in one pass, changing declarations, invocations, method references and
+     * static imports the way {@link ChangeMethodName} does for a single method.
+     * <p>
+     * The visitor of {@link ChangeMethodName} is not reused, because it is built around a single method pattern:
+     * applying the renames with it would take one pass over the file per renamed method, which is what this
+     * visitor avoids. The renames of a file are instead looked up by declaring type and name, and only then
+     * matched against their method patterns.
+     */
+    private static class RenameMethods extends JavaIsoVisitor<ExecutionContext> {
+        private final Map<String, Map<String, List<Rename>>> renames;
+
+        RenameMethods(Map<String, Map<String, List<Rename>>> renames) {
+            this.renames = renames;
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+            J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+            JavaType.Method type = m.getMethodType();
+            String newName = newName(type);
+            if (type != null && newName != null) {
+                JavaType.Method newType = type.withName(newName);
+                m = m.withName(m.getName().withSimpleName(newName).withType(newType)).withMethodType(newType);
+            }
+            return m;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+            J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+            JavaType.Method type = m.getMethodType();
+            String newName = newName(type);
+            if (type != null && newName != null) {
+                JavaType.Method newType = type.withName(newName);
+                m = m.withName(m.getName().withSimpleName(newName).withType(newType)).withMethodType(newType);
+            }
+            return m;
+        }
+
+        @Override
+        public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+            J.MemberReference m = super.visitMemberReference(memberRef, ctx);
+            JavaType.Method type = m.getMethodType();
+            String newName = newName(type);
+            if (type != null && newName != null) {
+                JavaType.Method newType = type.withName(newName);
+                m = m.withReference(m.getReference().withSimpleName(newName)).withMethodType(newType);
+            }
+            return m;
+        }
+
+        /**
+         * A static import names every overload of a method at once. It is renamed when all the overloads that the
+         * type declares are renamed to the same name. Otherwise, it is kept for the overloads that keep their name,
+         * and the new names are imported next to it as far as they are used.
+         */
+        @Override
+        public J.Import visitImport(J.Import anImport, ExecutionContext ctx) {
+            if (!anImport.isStatic()) {
+                return anImport;
+            }
+            String name = anImport.getQualid().getSimpleName();
+            List<Rename> candidates = renames.getOrDefault(anImport.getTypeName(), emptyMap()).get(name);
+            JavaType.FullyQualified declaringType = TypeUtils.asFullyQualified(anImport.getQualid().getTarget().getType());
+            if (candidates == null || declaringType == null) {
+                return anImport;
+            }
+            Set<@Nullable String> newNames = new LinkedHashSet<>();
+            for (JavaType.Method method : declaringType.getMethods()) {
+                if (method.getName().equals(name)) {
+                    newNames.add(newName(method, candidates));
+                }
+            }
+            if (newNames.size() == 1 && !newNames.contains(null)) {
+                J.FieldAccess qualid = anImport.getQualid();
+                return anImport.withQualid(qualid.withName(qualid.getName().withSimpleName(newNames.iterator().next())));
+            }
+            for (String newName : newNames) {
+                if (newName != null) {
+                    maybeAddImport(anImport.getTypeName(), newName, true);
+                }
+            }
+            return anImport;
+        }
+
+        private @Nullable String newName(JavaType.@Nullable Method type) {
+            if (type == null) {
+                return null;
+            }
+            List<Rename> candidates = renames.getOrDefault(type.getDeclaringType().getFullyQualifiedName(), emptyMap())
+                    .get(type.getName());
+            return candidates == null ? null : newName(type, candidates);
+        }
+
+        private static @Nullable String newName(JavaType.Method type, List<Rename> candidates) {
+            for (Rename rename : candidates) {
+                if (rename.matcher.matches(type)) {
+                    return rename.change.getRecipe().getNewMethodName();
+                }
+            }
+            return null;
+        }
+    }
+
     @Value
     public static class MethodNameChange {
         UUID scope;
         boolean privateMethod;
+        String declaringType;
+        String oldName;
         ChangeMethodName recipe;
     }
 }
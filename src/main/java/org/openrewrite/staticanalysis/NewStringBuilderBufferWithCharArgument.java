@@ -20,7 +20,6 @@ import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -49,7 +48,7 @@ public class NewStringBuilderBufferWithCharArgument extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        TreeVisitor<?, ExecutionContext> condition = Preconditions.or(new UsesType<>(STRING_BUILDER, true), new UsesType<>(STRING_BUFFER, true));
+        TreeVisitor<?, ExecutionContext> condition = Preconditions.or(PreconditionIndex.usesType(STRING_BUILDER, true), PreconditionIndex.usesType(STRING_BUFFER, true));
         return Preconditions.check(condition, new JavaIsoVisitor<ExecutionContext>() {
 
             @Override
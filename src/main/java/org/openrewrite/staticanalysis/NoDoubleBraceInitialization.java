@@ -20,7 +20,6 @@ import lombok.RequiredArgsConstructor;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 import org.openrewrite.marker.SearchResult;
@@ -57,9 +56,9 @@ public class NoDoubleBraceInitialization extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesType<>("java.util.Map", false),
-                        new UsesType<>("java.util.List", false),
-                        new UsesType<>("java.util.Set", false)
+                        PreconditionIndex.usesType("java.util.Map", false),
+                        PreconditionIndex.usesType("java.util.List", false),
+                        PreconditionIndex.usesType("java.util.Set", false)
                 ),
                 new NoDoubleBraceInitializationVisitor()
         );
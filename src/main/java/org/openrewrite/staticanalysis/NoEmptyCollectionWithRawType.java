@@ -23,7 +23,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.search.UsesField;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -55,7 +54,7 @@ public class NoEmptyCollectionWithRawType extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.and(
-                new UsesType<>("java.util.Collections", false),
+                PreconditionIndex.usesType("java.util.Collections", false),
                 new UsesField<>("java.util.Collections", "EMPTY_*")
         ), new JavaVisitor<ExecutionContext>() {
             final Map<String, String> updateFields = new HashMap<>();
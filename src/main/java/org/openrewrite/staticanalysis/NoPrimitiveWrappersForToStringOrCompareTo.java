@@ -21,7 +21,6 @@ import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -58,10 +57,10 @@ public class NoPrimitiveWrappersForToStringOrCompareTo extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesMethod<>(NUMBER_COMPARE_TO_MATCHER),
-                        new UsesMethod<>(NUMBER_TO_STRING_MATCHER),
-                        new UsesMethod<>(BOOLEAN_COMPARE_TO_MATCHER),
-                        new UsesMethod<>(BOOLEAN_TO_STRING_MATCHER)
+                        PreconditionIndex.usesMethod(NUMBER_COMPARE_TO_MATCHER),
+                        PreconditionIndex.usesMethod(NUMBER_TO_STRING_MATCHER),
+                        PreconditionIndex.usesMethod(BOOLEAN_COMPARE_TO_MATCHER),
+                        PreconditionIndex.usesMethod(BOOLEAN_TO_STRING_MATCHER)
                 ),
                 new NoPrimitiveWrapperVisitor()
         );
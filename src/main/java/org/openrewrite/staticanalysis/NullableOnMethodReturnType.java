@@ -19,7 +19,6 @@ import lombok.Getter;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.trait.Annotated;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -86,7 +85,7 @@ public class NullableOnMethodReturnType extends Recipe {
                         .orElse(m));
             }
         };
-        return Preconditions.check(new UsesType<>("*..Nullable", false), visitor);
+        return Preconditions.check(PreconditionIndex.usesType("*..Nullable", false), visitor);
     }
 
     private static boolean isApplicableToTypeUse(J.Annotation annotation) {
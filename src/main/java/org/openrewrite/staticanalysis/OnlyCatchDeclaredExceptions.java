@@ -21,7 +21,6 @@ import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.JavaType.FullyQualified;
@@ -139,6 +138,6 @@ public class OnlyCatchDeclaredExceptions extends Recipe {
                 return aCatch.withParameter(generatedTry.getCatches().get(0).getParameter());
             }
         };
-        return Preconditions.check(new UsesType<>(JAVA_LANG_EXCEPTION, false), visitor);
+        return Preconditions.check(PreconditionIndex.usesType(JAVA_LANG_EXCEPTION, false), visitor);
     }
 }
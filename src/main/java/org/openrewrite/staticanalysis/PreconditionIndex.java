@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Drop-in replacements for the {@link UsesMethod} and {@link UsesType} preconditions that answer from an index
+ * built once per source file, instead of scanning the file's types in use again for every recipe of a composite
+ * and again in every cycle.
+ * <p>
+ * The index groups the used methods by name, so a method precondition only tests the matcher against the used
+ * methods of that name. It keeps the names of the used types, of the declaring types of used static methods and
+ * of imported types, so a type precondition is a single set lookup. Implicit uses also look at the supertypes of
+ * those types, which are only collected once a precondition asks for them. Wildcard type patterns are tested
+ * against the names in the index.
+ * <p>
+ * The overloads that take a language check the type of the source file first, so files of other languages are
+ * skipped without being indexed at all.
+ * <p>
+ * Indexes are kept in a {@link TreeCache} for the whole recipe run, so a file that a recipe changed is indexed
+ * anew.
+ */
+final class PreconditionIndex {
+    private static final String CACHE_KEY = PreconditionIndex.class.getName();
+
+    private final Map<String, List<JavaType.Method>> usedMethodsByName = new HashMap<>();
+    private final Set<String> usedTypeNames = new HashSet<>();
+    private final Set<JavaType.FullyQualified> usedTypes = new HashSet<>();
+    private volatile @Nullable Set<String> assignableTypeNames;
+
+    private PreconditionIndex(JavaSourceFile sourceFile) {
+        TypesInUse typesInUse = sourceFile.getTypesInUse();
+        for (JavaType.Method method : typesInUse.getUsedMethods()) {
+            usedMethodsByName.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+            if (method.hasFlags(Flag.Static)) {
+                addUsedType(method.getDeclaringType());
+            }
+        }
+        for (JavaType type : typesInUse.getTypesInUse()) {
+            if (type instanceof JavaType.Primitive) {
+                usedTypeNames.add(((JavaType.Primitive) type).getKeyword());
+            } else {
+                addUsedType(TypeUtils.asFullyQualified(type));
+            }
+        }
+        for (J.Import anImport : sourceFile.getImports()) {
+            if (anImport.isStatic() || !"*".equals(anImport.getQualid().getSimpleName())) {
+                usedTypeNames.add(normalize(anImport.getTypeName()));
+            }
+        }
+    }
+
+    private void addUsedType(JavaType.@Nullable FullyQualified type) {
+        if (type != null) {
+            usedTypes.add(type);
+            usedTypeNames.add(normalize(type.getFullyQualifiedName()));
+        }
+    }
+
+    static TreeVisitor<?, ExecutionContext> usesMethod(String methodPattern) {
+        return usesMethod(new MethodMatcher(methodPattern));
+    }
+
+    static TreeVisitor<?, ExecutionContext> usesMethod(MethodMatcher methodMatcher) {
+        return usesMethod(methodMatcher, JavaSourceFile.class);
+    }
+
+    static TreeVisitor<?, ExecutionContext> usesMethod(MethodMatcher methodMatcher, Class<? extends JavaSourceFile> language) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (language.isInstance(tree) && forSourceFile((JavaSourceFile) tree, ctx).usesMethod(methodMatcher)) {
+                    return SearchResult.found(tree);
+                }
+                return tree;
+            }
+        };
+    }
+
+    static TreeVisitor<?, ExecutionContext> usesType(String fullyQualifiedType, @Nullable Boolean includeImplicit) {
+        return usesType(fullyQualifiedType, includeImplicit, JavaSourceFile.class);
+    }
+
+    static TreeVisitor<?, ExecutionContext> usesType(String fullyQualifiedType, @Nullable Boolean includeImplicit,
+                                                     Class<? extends JavaSourceFile> language) {
+        boolean implicit = Boolean.TRUE.equals(includeImplicit);
+        @Nullable Pattern typePattern = fullyQualifiedType.contains("*") ?
+                Pattern.compile(StringUtils.aspectjNameToPattern(fullyQualifiedType)) : null;
+        String typeName = normalize(fullyQualifiedType);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (language.isInstance(tree)) {
+                    Set<String> names = forSourceFile((JavaSourceFile) tree, ctx).typeNames(implicit);
+                    if (typePattern == null ? names.contains(typeName) : anyMatches(names, typePattern)) {
+                        return SearchResult.found(tree);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    private boolean usesMethod(MethodMatcher methodMatcher) {
+        String methodName = methodMatcher.getMethodName();
+        if (methodName != null) {
+            return anyMatches(usedMethodsByName.getOrDefault(methodName, emptyList()), methodMatcher);
+        }
+        for (List<JavaType.Method> methods : usedMethodsByName.values()) {
+            if (anyMatches(methods, methodMatcher)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyMatches(List<JavaType.Method> methods, MethodMatcher methodMatcher) {
+        for (JavaType.Method method : methods) {
+            if (methodMatcher.matches(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyMatches(Set<String> typeNames, Pattern typePattern) {
+        for (String typeName : typeNames) {
+            if (typePattern.matcher(typeName).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> typeNames(boolean includeImplicit) {
+        if (!includeImplicit) {
+            return usedTypeNames;
+        }
+        Set<String> names = assignableTypeNames;
+        if (names == null) {
+            names = new HashSet<>(usedTypeNames);
+            Set<JavaType.FullyQualified> seen = new HashSet<>();
+            for (JavaType.FullyQualified type : usedTypes) {
+                addSupertypes(type, names, seen);
+            }
+            assignableTypeNames = names;
+        }
+        return names;
+    }
+
+    private static void addSupertypes(JavaType.@Nullable FullyQualified type, Set<String> names, Set<JavaType.FullyQualified> seen) {
+        if (type == null || !seen.add(type)) {
+            return;
+        }
+        names.add(normalize(type.getFullyQualifiedName()));
+        addSupertypes(type.getSupertype(), names, seen);
+        for (JavaType.FullyQualified anInterface : type.getInterfaces()) {
+            addSupertypes(anInterface, names, seen);
+        }
+    }
+
+    /**
+     * Nested types are named with {@code $} in type attribution but usually with {@code .} in preconditions.
+     */
+    private static String normalize(String fullyQualifiedName) {
+        return fullyQualifiedName.replace('$', '.');
+    }
+
+    private static PreconditionIndex forSourceFile(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        return TreeCache.<JavaSourceFile, PreconditionIndex>of(ctx, CACHE_KEY, TreeCache.SOURCE_FILES)
+                .computeIfAbsent(sourceFile, PreconditionIndex::new);
+    }
+}
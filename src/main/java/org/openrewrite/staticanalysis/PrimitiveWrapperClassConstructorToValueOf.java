@@ -22,7 +22,6 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -51,14 +50,14 @@ public class PrimitiveWrapperClassConstructorToValueOf extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         TreeVisitor<?, ExecutionContext> condition = Preconditions.or(
-                new UsesType<>("java.lang.Boolean", false),
-                new UsesType<>("java.lang.Byte", false),
-                new UsesType<>("java.lang.Character", false),
-                new UsesType<>("java.lang.Double", false),
-                new UsesType<>("java.lang.Float", false),
-                new UsesType<>("java.lang.Integer", false),
-                new UsesType<>("java.lang.Long", false),
-                new UsesType<>("java.lang.Short", false)
+                PreconditionIndex.usesType("java.lang.Boolean", false),
+                PreconditionIndex.usesType("java.lang.Byte", false),
+                PreconditionIndex.usesType("java.lang.Character", false),
+                PreconditionIndex.usesType("java.lang.Double", false),
+                PreconditionIndex.usesType("java.lang.Float", false),
+                PreconditionIndex.usesType("java.lang.Integer", false),
+                PreconditionIndex.usesType("java.lang.Long", false),
+                PreconditionIndex.usesType("java.lang.Short", false)
         );
         return Preconditions.check(condition, new JavaVisitor<ExecutionContext>() {
             @Override
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+
+/**
+ * Which methods can be called without any side effect, so that {@link SideEffects} does not have to treat every
+ * invocation as one.
+ * <p>
+ * JDK methods are looked up in a table of methods known to be pure, by declaring type and name. The table only
+ * lists methods of final JDK classes that call no code outside the JDK: no methods of interfaces or of classes that
+ * can be subclassed, whose implementations may be user code, and no methods that call {@code equals},
+ * {@code hashCode} or {@code compareTo} of arguments, which may be user code too. Nor does it list methods that
+ * throw for some of their arguments, like {@code Integer.valueOf(String)} or {@code String.charAt}, since a user
+ * method that throws is not pure either. Methods declared
+ * in the source file being visited are summarized from their bodies: a method is pure when it cannot be
+ * overridden, only assigns local variables, throws nothing explicitly, only calls pure methods, and is not
+ * recursive, since it may then not terminate. Each method is first checked on its own, and impurity is then
+ * propagated from callees to their callers over the call graph of the source file, so every method is analyzed
+ * once however deep the calls go.
+ * <p>
+ * Summaries are computed once per source file and remembered for the whole recipe run in a {@link TreeCache}.
+ */
+final class PuritySummaries {
+    private static final String CACHE_KEY = PuritySummaries.class.getName();
+
+    /**
+     * Pure methods by declaring type. Overloads share their name, so every overload of a listed name must be pure,
+     * and must not throw for any argument other than by unboxing {@code null}. Methods whose only purpose is to
+     * throw, like {@code Objects.requireNonNull}, are deliberately left out.
+     */
+    private static final Map<String, Set<String>> PURE_JDK_METHODS = new HashMap<>();
+
+    static {
+        // Not charAt() or substring(), which throw for indexes out of bounds, nor the methods that throw for null
+        // arguments, like compareTo(), startsWith() or toLowerCase(Locale)
+        pure("java.lang.String", "length", "isEmpty", "isBlank", "equals", "equalsIgnoreCase", "trim", "strip",
+                "stripLeading", "stripTrailing", "hashCode", "toString");
+        for (String type : asList("java.lang.Math", "java.lang.StrictMath")) {
+            pure(type, "abs", "max", "min", "floor", "ceil", "round", "rint", "sqrt", "cbrt", "pow", "signum", "exp",
+                    "log", "log10", "sin", "cos", "tan", "asin", "acos", "atan", "atan2", "hypot", "toRadians",
+                    "toDegrees");
+        }
+        // Not valueOf(), which parses strings too, nor compareTo(), which throws for null
+        for (String type : asList("java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte",
+                "java.lang.Double", "java.lang.Float")) {
+            pure(type, "intValue", "longValue", "shortValue", "byteValue", "doubleValue", "floatValue", "compare",
+                    "equals", "hashCode", "toString", "isNaN", "isInfinite", "isFinite", "sum", "max", "min", "signum",
+                    "bitCount");
+        }
+        pure("java.lang.Boolean", "valueOf", "booleanValue", "compare", "equals", "hashCode", "toString",
+                "logicalAnd", "logicalOr", "logicalXor");
+        // Not toString(), which throws for invalid code points
+        pure("java.lang.Character", "valueOf", "charValue", "compare", "equals", "hashCode", "isDigit", "isLetter",
+                "isLetterOrDigit", "isWhitespace", "isUpperCase", "isLowerCase", "toUpperCase", "toLowerCase");
+        // Not the methods that call equals(), hashCode() or toString() of arbitrary objects
+        pure("java.util.Objects", "isNull", "nonNull");
+        pure("java.util.Optional", "isPresent", "isEmpty");
+    }
+
+    private static void pure(String declaringType, String... methodNames) {
+        PURE_JDK_METHODS.computeIfAbsent(declaringType, k -> new HashSet<>()).addAll(asList(methodNames));
+    }
+
+    private final Map<String, Boolean> pureMethods;
+
+    private PuritySummaries(Map<String, Boolean> pureMethods) {
+        this.pureMethods = pureMethods;
+    }
+
+    /**
+     * @param cursor Any cursor inside the source file being visited, whose own methods are then summarized too.
+     */
+    static PuritySummaries forCursor(Cursor cursor, ExecutionContext ctx) {
+        JavaSourceFile sourceFile = cursor.firstEnclosing(JavaSourceFile.class);
+        if (sourceFile == null) {
+            return new PuritySummaries(emptyMap());
+        }
+        return TreeCache.<JavaSourceFile, PuritySummaries>of(ctx, CACHE_KEY, TreeCache.SOURCE_FILES)
+                .computeIfAbsent(sourceFile, PuritySummaries::summarize);
+    }
+
+    boolean isPure(JavaType.@Nullable Method method) {
+        if (method == null) {
+            return false;
+        }
+        Boolean summarized = pureMethods.get(signature(method));
+        return summarized != null ? summarized : isPureJdkMethod(method);
+    }
+
+    private static boolean isPureJdkMethod(JavaType.Method method) {
+        Set<String> pureNames = PURE_JDK_METHODS.get(method.getDeclaringType().getFullyQualifiedName());
+        return pureNames != null && !method.isConstructor() && pureNames.contains(method.getName());
+    }
+
+    private static String signature(JavaType.Method method) {
+        return method.getDeclaringType().getFullyQualifiedName() + '#' + method.getName() + method.getParameterTypes();
+    }
+
+    private static PuritySummaries summarize(JavaSourceFile sourceFile) {
+        Map<String, MethodSummary> methods = new HashMap<>();
+        new JavaIsoVisitor<Map<String, MethodSummary>>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Map<String, MethodSummary> m) {
+                JavaType.Method type = method.getMethodType();
+                if (type != null && method.getBody() != null && !method.isConstructor() && cannotBeOverridden(method)) {
+                    m.put(signature(type), new MethodSummary(method.getBody()));
+                }
+                return super.visitMethodDeclaration(method, m);
+            }
+
+            private boolean cannotBeOverridden(J.MethodDeclaration method) {
+                if (method.hasModifier(J.Modifier.Type.Static) || method.hasModifier(J.Modifier.Type.Private) ||
+                    method.hasModifier(J.Modifier.Type.Final)) {
+                    return true;
+                }
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                return classDecl != null && (classDecl.hasModifier(J.Modifier.Type.Final) ||
+                                             classDecl.getKind() == J.ClassDeclaration.Kind.Type.Record);
+            }
+        }.visit(sourceFile, methods);
+
+        // Check each method on its own, recording the calls to other methods of the source file
+        Map<String, List<MethodSummary>> callers = new HashMap<>();
+        Deque<MethodSummary> impure = new ArrayDeque<>();
+        for (Map.Entry<String, MethodSummary> entry : methods.entrySet()) {
+            MethodSummary summary = entry.getValue();
+            LocalAnalysis analysis = new LocalAnalysis(methods);
+            analysis.visit(summary.body, 0);
+            if (analysis.impure) {
+                summary.pure = false;
+                impure.add(summary);
+            }
+            for (String callee : analysis.callees) {
+                callers.computeIfAbsent(callee, k -> new ArrayList<>()).add(summary);
+            }
+            summary.signature = entry.getKey();
+            summary.callees = analysis.callees;
+        }
+
+        // Every method on a call cycle calls itself through the others, so it is enough to mark one of each cycle
+        Set<MethodSummary> done = new HashSet<>();
+        Set<MethodSummary> onPath = new HashSet<>();
+        for (MethodSummary summary : methods.values()) {
+            markRecursive(summary, methods, done, onPath, impure);
+        }
+
+        // Then propagate impurity from callees to callers
+        while (!impure.isEmpty()) {
+            MethodSummary callee = impure.poll();
+            for (MethodSummary caller : callers.getOrDefault(callee.signature, Collections.emptyList())) {
+                if (caller.pure) {
+                    caller.pure = false;
+                    impure.add(caller);
+                }
+            }
+        }
+
+        Map<String, Boolean> pureMethods = new HashMap<>();
+        for (Map.Entry<String, MethodSummary> entry : methods.entrySet()) {
+            pureMethods.put(entry.getKey(), entry.getValue().pure);
+        }
+        return new PuritySummaries(pureMethods);
+    }
+
+    private static void markRecursive(MethodSummary method, Map<String, MethodSummary> methods,
+                                      Set<MethodSummary> done, Set<MethodSummary> onPath, Deque<MethodSummary> impure) {
+        if (onPath.contains(method)) {
+            if (method.pure) {
+                method.pure = false;
+                impure.add(method);
+            }
+            return;
+        }
+        if (!done.add(method)) {
+            return;
+        }
+        onPath.add(method);
+        for (String callee : method.callees) {
+            markRecursive(methods.get(callee), methods, done, onPath, impure);
+        }
+        onPath.remove(method);
+    }
+
+    private static class MethodSummary {
+        final J.Block body;
+        String signature = "";
+        Set<String> callees = Collections.emptySet();
+        boolean pure = true;
+
+        MethodSummary(J.Block body) {
+            this.body = body;
+        }
+    }
+
+    /**
+     * Whether a method body has a side effect of its own, and which methods of the source file it calls.
+     */
+    private static class LocalAnalysis extends JavaIsoVisitor<Integer> {
+        private final Map<String, MethodSummary> methods;
+        final Set<String> callees = new HashSet<>();
+        boolean impure;
+
+        LocalAnalysis(Map<String, MethodSummary> methods) {
+            this.methods = methods;
+        }
+
+        @Override
+        public @Nullable J visit(@Nullable Tree tree, Integer p) {
+            return impure ? (J) tree : super.visit(tree, p);
+        }
+
+        @Override
+        public J.Assignment visitAssignment(J.Assignment assignment, Integer p) {
+            checkLocal(assignment.getVariable());
+            return super.visitAssignment(assignment, p);
+        }
+
+        @Override
+        public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, Integer p) {
+            checkLocal(assignOp.getVariable());
+            return super.visitAssignmentOperation(assignOp, p);
+        }
+
+        @Override
+        public J.Unary visitUnary(J.Unary unary, Integer p) {
+            switch (unary.getOperator()) {
+                case PreIncrement:
+                case PreDecrement:
+                case PostIncrement:
+                case PostDecrement:
+                    checkLocal(unary.getExpression());
+                    break;
+                default:
+                    break;
+            }
+            return super.visitUnary(unary, p);
+        }
+
+        @Override
+        public J.Throw visitThrow(J.Throw thrown, Integer p) {
+            impure = true;
+            return thrown;
+        }
+
+        @Override
+        public J.Synchronized visitSynchronized(J.Synchronized sync, Integer p) {
+            impure = true;
+            return sync;
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+            checkCall(method.getMethodType());
+            return super.visitMethodInvocation(method, p);
+        }
+
+        @Override
+        public J.MemberReference visitMemberReference(J.MemberReference memberRef, Integer p) {
+            // The referenced method may be called wherever the reference ends up
+            checkCall(memberRef.getMethodType());
+            return super.visitMemberReference(memberRef, p);
+        }
+
+        @Override
+        public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+            if (newClass.getBody() != null) {
+                impure = true;
+                return newClass;
+            }
+            checkCall(newClass.getConstructorType());
+            return super.visitNewClass(newClass, p);
+        }
+
+        private void checkCall(JavaType.@Nullable Method method) {
+            if (method == null) {
+                impure = true;
+                return;
+            }
+            String signature = signature(method);
+            if (methods.containsKey(signature)) {
+                callees.add(signature);
+            } else if (!isPureJdkMethod(method)) {
+                impure = true;
+            }
+        }
+
+        private void checkLocal(Expression variable) {
+            // Only local variables and parameters, owned by a method, may be assigned
+            JavaType.Variable fieldType = variable instanceof J.Identifier ? ((J.Identifier) variable).getFieldType() : null;
+            if (fieldType == null || !(fieldType.getOwner() instanceof JavaType.Method)) {
+                impure = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import lombok.experimental.NonFinal;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.config.DataTableDescriptor;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.RecipeDescriptor;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.staticanalysis.table.RecipePerformance;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Profiles a recipe, such as {@code CommonStaticAnalysis} or {@code JavaApiBestPractices}, and every recipe in its
+ * recipe list. Each recipe's visitors are wrapped to time how long they spend on every source file, and once the
+ * run is complete, a {@link RecipePerformance} row is recorded per recipe with its totals and the source files it
+ * was slowest on.
+ * <p>
+ * Profiling is opt-in: it is a recipe of its own, which names the recipe to profile, so that it can be added to
+ * a declarative recipe or run from the command line. Java code can also profile a recipe instance with
+ * {@link #profile(Recipe)}. The wrapped recipes keep the names, options, data tables, validation and cycles of
+ * the recipes they wrap, so that they run as those recipes would on their own.
+ */
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class RecipePerformanceProfiler extends Recipe {
+    private static final String STATS_KEY = RecipePerformanceProfiler.class.getName() + ".stats";
+    private static final String TREE_SIZES_KEY = RecipePerformanceProfiler.class.getName() + ".treeSizes";
+    private static final int SLOWEST_SOURCE_FILES = 10;
+
+    @Option(displayName = "Recipe",
+            description = "The fully qualified name of the recipe to profile. Every recipe in its recipe list is profiled too.",
+            example = "org.openrewrite.staticanalysis.CommonStaticAnalysis")
+    String recipe;
+
+    transient RecipePerformance performance = new RecipePerformance(this);
+
+    @NonFinal
+    transient @Nullable Recipe profiled;
+
+    @NonFinal
+    transient @Nullable List<Recipe> wrapped;
+
+    String displayName = "Profile recipe performance";
+
+    String description = "Runs a recipe, such as `CommonStaticAnalysis`, and records how long it and each recipe in " +
+            "its recipe list spend on source files, and the source files each of them was slowest on.";
+
+    @JsonCreator
+    public RecipePerformanceProfiler(@JsonProperty("recipe") String recipe) {
+        this.recipe = recipe;
+    }
+
+    private RecipePerformanceProfiler(Recipe profiled) {
+        this(profiled.getName());
+        this.profiled = profiled;
+    }
+
+    /**
+     * @return A recipe that runs the given recipe and its recipe list, while recording their performance in a
+     * {@link RecipePerformance} data table.
+     */
+    public static Recipe profile(Recipe recipe) {
+        return new RecipePerformanceProfiler(recipe);
+    }
+
+    @Override
+    public synchronized List<Recipe> getRecipeList() {
+        if (profiled == null && StringUtils.isBlank(recipe)) {
+            // Not configured yet, as when recipes are listed and described, and reported by validate()
+            return emptyList();
+        }
+        // Wrapped once, since scanning recipes keep their accumulators per instance
+        if (wrapped == null) {
+            wrapped = singletonList(wrap(profiled == null ? load(recipe) : profiled));
+        }
+        return wrapped;
+    }
+
+    private static Recipe load(String recipeName) {
+        for (Recipe r : Environment.builder().scanRuntimeClasspath().build().listRecipes()) {
+            if (r.getName().equals(recipeName)) {
+                return r;
+            }
+        }
+        throw new IllegalArgumentException("No recipe named " + recipeName + " was found on the classpath");
+    }
+
+    @Override
+    public void onComplete(ExecutionContext ctx) {
+        Map<String, Stats> stats = ctx.pollMessage(STATS_KEY);
+        if (stats == null) {
+            return;
+        }
+        List<Map.Entry<String, Stats>> byWallTime = stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().wallTimeNanos).reversed())
+                .collect(toList());
+        for (Map.Entry<String, Stats> entry : byWallTime) {
+            Stats recipeStats = entry.getValue();
+            synchronized (recipeStats) {
+                performance.insertRow(ctx, new RecipePerformance.Row(
+                        entry.getKey(),
+                        recipeStats.sourceFiles,
+                        recipeStats.treesChanged,
+                        TimeUnit.NANOSECONDS.toMillis(recipeStats.wallTimeNanos),
+                        recipeStats.slowestSourceFiles()
+                ));
+            }
+        }
+    }
+
+    private static Recipe wrap(Recipe recipe) {
+        if (recipe instanceof ScanningRecipe) {
+            return wrapScanning((ScanningRecipe<?>) recipe);
+        }
+        return new ProfiledRecipe(recipe);
+    }
+
+    private static <T> Recipe wrapScanning(ScanningRecipe<T> recipe) {
+        return new ProfiledScanningRecipe<>(recipe);
+    }
+
+    private static List<Recipe> wrapAll(List<Recipe> recipes) {
+        List<Recipe> wrapped = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            wrapped.add(wrap(recipe));
+        }
+        return wrapped;
+    }
+
+    // Wraps the visitors of any recipe, which may not be shared
+    @VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
+    private static class ProfiledRecipe extends Recipe {
+        private final Recipe delegate;
+
+        @Nullable
+        private List<Recipe> recipeList;
+
+        ProfiledRecipe(Recipe delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return delegate.getDisplayName();
+        }
+
+        @Override
+        public String getInstanceName() {
+            return delegate.getInstanceName();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public Set<String> getTags() {
+            return delegate.getTags();
+        }
+
+        @Override
+        public @Nullable Duration getEstimatedEffortPerOccurrence() {
+            return delegate.getEstimatedEffortPerOccurrence();
+        }
+
+        @Override
+        protected RecipeDescriptor createRecipeDescriptor() {
+            return delegate.getDescriptor();
+        }
+
+        @Override
+        public List<DataTableDescriptor> getDataTableDescriptors() {
+            return delegate.getDataTableDescriptors();
+        }
+
+        @Override
+        public Validated<Object> validate(ExecutionContext ctx) {
+            return delegate.validate(ctx);
+        }
+
+        @Override
+        public int maxCycles() {
+            return delegate.maxCycles();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return delegate.causesAnotherCycle();
+        }
+
+        @Override
+        public synchronized List<Recipe> getRecipeList() {
+            if (recipeList == null) {
+                recipeList = wrapAll(delegate.getRecipeList());
+            }
+            return recipeList;
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor() {
+            return new ProfilingVisitor(delegate.getName(), delegate.getVisitor());
+        }
+
+        @Override
+        public void onComplete(ExecutionContext ctx) {
+            delegate.onComplete(ctx);
+        }
+    }
+
+    // Wraps the visitors of any recipe, which may not be shared
+    @VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
+    private static class ProfiledScanningRecipe<T> extends ScanningRecipe<T> {
+        private final ScanningRecipe<T> delegate;
+
+        @Nullable
+        private List<Recipe> recipeList;
+
+        ProfiledScanningRecipe(ScanningRecipe<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return delegate.getDisplayName();
+        }
+
+        @Override
+        public String getInstanceName() {
+            return delegate.getInstanceName();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+
+        @Override
+        public Set<String> getTags() {
+            return delegate.getTags();
+        }
+
+        @Override
+        public @Nullable Duration getEstimatedEffortPerOccurrence() {
+            return delegate.getEstimatedEffortPerOccurrence();
+        }
+
+        @Override
+        protected RecipeDescriptor createRecipeDescriptor() {
+            return delegate.getDescriptor();
+        }
+
+        @Override
+        public List<DataTableDescriptor> getDataTableDescriptors() {
+            return delegate.getDataTableDescriptors();
+        }
+
+        @Override
+        public Validated<Object> validate(ExecutionContext ctx) {
+            return delegate.validate(ctx);
+        }
+
+        @Override
+        public int maxCycles() {
+            return delegate.maxCycles();
+        }
+
+        @Override
+        public boolean causesAnotherCycle() {
+            return delegate.causesAnotherCycle();
+        }
+
+        @Override
+        public synchronized List<Recipe> getRecipeList() {
+            if (recipeList == null) {
+                recipeList = wrapAll(delegate.getRecipeList());
+            }
+            return recipeList;
+        }
+
+        @Override
+        public T getInitialValue(ExecutionContext ctx) {
+            return delegate.getInitialValue(ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getScanner(T acc) {
+            return new ProfilingVisitor(delegate.getName(), delegate.getScanner(acc));
+        }
+
+        @Override
+        public Collection<? extends SourceFile> generate(T acc, ExecutionContext ctx) {
+            return delegate.generate(acc, ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor(T acc) {
+            return new ProfilingVisitor(delegate.getName(), delegate.getVisitor(acc));
+        }
+
+        @Override
+        public void onComplete(ExecutionContext ctx) {
+            delegate.onComplete(ctx);
+        }
+    }
+
+    private static class ProfilingVisitor extends TreeVisitor<Tree, ExecutionContext> {
+        private final String recipeName;
+        private final TreeVisitor<?, ExecutionContext> delegate;
+
+        ProfilingVisitor(String recipeName, TreeVisitor<?, ExecutionContext> delegate) {
+            this.recipeName = recipeName;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+            return delegate.isAcceptable(sourceFile, ctx);
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            if (!(tree instanceof SourceFile)) {
+                return delegate.visit(tree, ctx);
+            }
+            long start = System.nanoTime();
+            Tree after = delegate.visit(tree, ctx);
+            record((SourceFile) tree, after, System.nanoTime() - start, ctx);
+            return after;
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx, Cursor parent) {
+            if (!(tree instanceof SourceFile)) {
+                return delegate.visit(tree, ctx, parent);
+            }
+            long start = System.nanoTime();
+            Tree after = delegate.visit(tree, ctx, parent);
+            record((SourceFile) tree, after, System.nanoTime() - start, ctx);
+            return after;
+        }
+
+        private void record(SourceFile before, @Nullable Tree after, long elapsedNanos, ExecutionContext ctx) {
+            Stats stats = ctx.computeMessageIfAbsent(STATS_KEY, k -> new ConcurrentHashMap<String, Stats>())
+                    .computeIfAbsent(recipeName, k -> new Stats());
+            stats.record(after != before, elapsedNanos);
+            if (stats.isAmongSlowest(elapsedNanos)) {
+                // Only source files that are among the slowest of a recipe are measured, once per file instance
+                long treeSize = TreeCache.<SourceFile, Long>of(ctx, TREE_SIZES_KEY, TreeCache.SOURCE_FILES)
+                        .computeIfAbsent(before, RecipePerformanceProfiler::countNodes);
+                stats.addSlowest(before, treeSize, elapsedNanos);
+            }
+        }
+    }
+
+    private static long countNodes(SourceFile sourceFile) {
+        if (!(sourceFile instanceof J)) {
+            return 0;
+        }
+        return new JavaIsoVisitor<AtomicLong>() {
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, AtomicLong count) {
+                if (tree != null) {
+                    count.incrementAndGet();
+                }
+                return super.visit(tree, count);
+            }
+        }.reduce(sourceFile, new AtomicLong()).get();
+    }
+
+    private static class Stats {
+        int sourceFiles;
+        int treesChanged;
+        long wallTimeNanos;
+
+        // The slowest source files so far, fastest first so that it is the one to give way
+        private final PriorityQueue<SlowSourceFile> slowest =
+                new PriorityQueue<>(Comparator.comparingLong((SlowSourceFile s) -> s.wallTimeNanos));
+
+        synchronized void record(boolean changed, long elapsedNanos) {
+            sourceFiles++;
+            if (changed) {
+                treesChanged++;
+            }
+            wallTimeNanos += elapsedNanos;
+        }
+
+        synchronized boolean isAmongSlowest(long elapsedNanos) {
+            return slowest.size() < SLOWEST_SOURCE_FILES || slowest.peek().wallTimeNanos < elapsedNanos;
+        }
+
+        synchronized void addSlowest(SourceFile sourceFile, long treeSize, long elapsedNanos) {
+            slowest.add(new SlowSourceFile(sourceFile.getSourcePath().toString(), treeSize, elapsedNanos));
+            if (slowest.size() > SLOWEST_SOURCE_FILES) {
+                slowest.poll();
+            }
+        }
+
+        synchronized String slowestSourceFiles() {
+            List<SlowSourceFile> slowestFirst = new ArrayList<>(slowest);
+            slowestFirst.sort(Comparator.comparingLong((SlowSourceFile s) -> s.wallTimeNanos).reversed());
+            StringJoiner joiner = new StringJoiner(", ");
+            for (SlowSourceFile s : slowestFirst) {
+                joiner.add(s.sourcePath + " (" + TimeUnit.NANOSECONDS.toMillis(s.wallTimeNanos) + " ms, " +
+                           s.treeSize + " nodes)");
+            }
+            return joiner.toString();
+        }
+    }
+
+    private static class SlowSourceFile {
+        final String sourcePath;
+        final long treeSize;
+        final long wallTimeNanos;
+
+        SlowSourceFile(String sourcePath, long treeSize, long wallTimeNanos) {
+            this.sourcePath = sourcePath;
+            this.treeSize = treeSize;
+            this.wallTimeNanos = wallTimeNanos;
+        }
+    }
+}
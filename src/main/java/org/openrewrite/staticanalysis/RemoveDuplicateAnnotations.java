@@ -27,7 +27,6 @@ import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.TypeMatcher;
 import org.openrewrite.java.search.SemanticallyEqual;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -132,6 +131,6 @@ public class RemoveDuplicateAnnotations extends Recipe {
                 return false;
             }
         };
-        return annotationType == null ? visitor : Preconditions.check(new UsesType<>(annotationType, null), visitor);
+        return annotationType == null ? visitor : Preconditions.check(PreconditionIndex.usesType(annotationType, null), visitor);
     }
 }
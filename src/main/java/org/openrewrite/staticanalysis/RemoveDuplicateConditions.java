@@ -26,11 +26,10 @@ import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static java.util.Collections.singleton;
+import static java.util.Objects.requireNonNull;
 import static org.openrewrite.staticanalysis.SideEffects.mayHaveSideEffects;
 
 @Getter
@@ -80,56 +79,51 @@ public class RemoveDuplicateConditions extends Recipe {
                 // A later condition is only unreachable if every condition up to it evaluates the same way each
                 // time; a side effect anywhere in the chain can change that, so require them all to be pure
                 for (Expression condition : conditions) {
-                    if (mayHaveSideEffects(condition)) {
+                    if (mayHaveSideEffects(condition, getCursor(), ctx)) {
                         return if__;
                     }
                 }
 
-                // Find and remove branches with duplicate conditions
-                J.If result = if__;
+                // Find the branches with duplicate conditions. Conditions are bucketed by their hash, and each one is
+                // only compared in full to the earlier distinct conditions in its bucket.
+                boolean[] duplicate = new boolean[conditions.size()];
                 boolean changed = false;
-                for (int i = conditions.size() - 1; i >= 1; i--) {
-                    for (int j = 0; j < i; j++) {
-                        if (SemanticallyEqual.areEqual(conditions.get(i), conditions.get(j))) {
-                            result = removeBranch(result, ifNodes.get(i));
+                Map<Integer, List<Expression>> distinctConditions = new HashMap<>();
+                for (int i = 0; i < conditions.size(); i++) {
+                    Expression condition = conditions.get(i);
+                    List<Expression> bucket = distinctConditions.computeIfAbsent(SemanticEqualityCache.hash(condition, ctx), k -> new ArrayList<>());
+                    for (Expression earlier : bucket) {
+                        if (SemanticallyEqual.areEqual(earlier, condition)) {
+                            duplicate[i] = true;
                             changed = true;
                             break;
                         }
                     }
+                    if (!duplicate[i]) {
+                        bucket.add(condition);
+                    }
                 }
 
-                return changed ? result : if__;
-            }
-
-            private J.If removeBranch(J.If root, J.If toRemove) {
-                // Walk the chain and skip the duplicate branch
-                return rebuildChain(root, toRemove);
+                return changed ? removeBranches(ifNodes, duplicate) : if__;
             }
 
-            private J.If rebuildChain(J.If current, J.If toRemove) {
-                if (current == toRemove) {
-                    // Skip this branch: connect its else to the previous branch
-                    // This case is handled by the caller
-                    return current;
-                }
-
-                if (current.getElsePart() == null) {
-                    return current;
-                }
-
-                Statement elseBody = current.getElsePart().getBody();
-                if (elseBody instanceof J.If) {
-                    J.If elseIf = (J.If) elseBody;
-                    if (elseIf == toRemove) {
-                        // Remove this else-if by connecting current to toRemove's else
-                        return current.withElsePart(toRemove.getElsePart());
+            /**
+             * Rebuilds the chain once, from its last branch up, handing the else part of every removed branch to
+             * the branch before it.
+             */
+            private J.If removeBranches(List<J.If> ifNodes, boolean[] duplicate) {
+                J.If.Else next = ifNodes.get(ifNodes.size() - 1).getElsePart();
+                J.If rebuilt = ifNodes.get(0);
+                for (int i = ifNodes.size() - 1; i >= 0; i--) {
+                    if (duplicate[i]) {
+                        continue;
                     }
-                    J.If rebuilt = rebuildChain(elseIf, toRemove);
-                    if (rebuilt != elseIf) {
-                        return current.withElsePart(current.getElsePart().withBody(rebuilt));
+                    rebuilt = ifNodes.get(i).withElsePart(next);
+                    if (i > 0) {
+                        next = requireNonNull(ifNodes.get(i - 1).getElsePart()).withBody(rebuilt);
                     }
                 }
-                return current;
+                return rebuilt;
             }
         };
     }
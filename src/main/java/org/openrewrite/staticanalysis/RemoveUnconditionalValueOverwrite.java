@@ -22,7 +22,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.SemanticallyEqual;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
@@ -78,9 +77,9 @@ public class RemoveUnconditionalValueOverwrite extends Recipe {
                         return stmt;
                     }
 
-                    if (SemanticallyEqual.areEqual(key, nextKey) &&
-                        SemanticallyEqual.areEqual(receiver, nextReceiver) &&
-                        !discardsSideEffects(stmt)) {
+                    if (SemanticEqualityCache.areEqual(key, nextKey, ctx) &&
+                        SemanticEqualityCache.areEqual(receiver, nextReceiver, ctx) &&
+                        !discardsSideEffects(stmt, ctx)) {
                         //noinspection DataFlowIssue
                         return null;
                     }
@@ -92,18 +91,18 @@ public class RemoveUnconditionalValueOverwrite extends Recipe {
              * The overwritten call is dead, but the expressions it evaluates on the way are not: dropping the
              * statement also drops the receiver, the key and the value it would have computed.
              */
-            private boolean discardsSideEffects(Statement stmt) {
+            private boolean discardsSideEffects(Statement stmt, ExecutionContext ctx) {
                 if (stmt instanceof J.Assignment) {
                     J.Assignment assignment = (J.Assignment) stmt;
-                    return mayHaveSideEffects(assignment.getVariable()) ||
-                           mayHaveSideEffects(assignment.getAssignment());
+                    return mayHaveSideEffects(assignment.getVariable(), getCursor(), ctx) ||
+                           mayHaveSideEffects(assignment.getAssignment(), getCursor(), ctx);
                 }
                 J.MethodInvocation method = (J.MethodInvocation) stmt;
-                if (mayHaveSideEffects(method.getSelect())) {
+                if (mayHaveSideEffects(method.getSelect(), getCursor(), ctx)) {
                     return true;
                 }
                 for (Expression argument : method.getArguments()) {
-                    if (mayHaveSideEffects(argument)) {
+                    if (mayHaveSideEffects(argument, getCursor(), ctx)) {
                         return true;
                     }
                 }
@@ -24,7 +24,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.RemoveMethodInvocationsVisitor;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.marker.SearchResult;
@@ -58,14 +57,14 @@ public class RemoveUnneededAssertion extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         TreeVisitor<?, ExecutionContext> constraints = Preconditions.or(
-                new UsesMethod<>(JUNIT_JUPITER_ASSERT_TRUE_MATCHER),
-                new UsesMethod<>(JUNIT_JUPITER_ASSERT_FALSE_MATCHER),
-                new UsesMethod<>(JUNIT_ASSERT_TRUE_MATCHER),
-                new UsesMethod<>(JUNIT_ASSERT_FALSE_MATCHER),
-                new UsesMethod<>(JUNIT_ASSERT_MESSAGE_TRUE_MATCHER),
-                new UsesMethod<>(JUNIT_ASSERT_MESSAGE_FALSE_MATCHER),
-                new UsesMethod<>(TEST_NG_ASSERT_TRUE_MATCHER),
-                new UsesMethod<>(TEST_NG_ASSERT_FALSE_MATCHER),
+                PreconditionIndex.usesMethod(JUNIT_JUPITER_ASSERT_TRUE_MATCHER),
+                PreconditionIndex.usesMethod(JUNIT_JUPITER_ASSERT_FALSE_MATCHER),
+                PreconditionIndex.usesMethod(JUNIT_ASSERT_TRUE_MATCHER),
+                PreconditionIndex.usesMethod(JUNIT_ASSERT_FALSE_MATCHER),
+                PreconditionIndex.usesMethod(JUNIT_ASSERT_MESSAGE_TRUE_MATCHER),
+                PreconditionIndex.usesMethod(JUNIT_ASSERT_MESSAGE_FALSE_MATCHER),
+                PreconditionIndex.usesMethod(TEST_NG_ASSERT_TRUE_MATCHER),
+                PreconditionIndex.usesMethod(TEST_NG_ASSERT_FALSE_MATCHER),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.Assert visitAssert(J.Assert _assert, ExecutionContext ctx) {
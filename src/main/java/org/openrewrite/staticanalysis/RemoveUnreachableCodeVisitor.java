@@ -21,7 +21,6 @@ import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Statement;
 
 import java.util.List;
-import java.util.Optional;
 
 class RemoveUnreachableCodeVisitor extends JavaVisitor<ExecutionContext> {
 
@@ -30,33 +29,13 @@ class RemoveUnreachableCodeVisitor extends JavaVisitor<ExecutionContext> {
     block = (J.Block) super.visitBlock(block, executionContext);
 
     List<Statement> statements = block.getStatements();
-    Optional<Integer> maybeFirstJumpIndex = findFirstJump(statements);
-    if (!maybeFirstJumpIndex.isPresent()) {
+    int lastReachableIndex = ControlFlow.firstNotCompletingNormally(statements, executionContext);
+    if (lastReachableIndex == -1 || lastReachableIndex == statements.size() - 1) {
+      // Every statement is reachable, so nothing to do
       return block;
     }
-    int firstJumpIndex = maybeFirstJumpIndex.get();
 
-    if (firstJumpIndex == statements.size() - 1) {
-      // Jump is at the end of the block, so nothing to do
-      return block;
-    }
-
-    List<Statement> newStatements = statements.subList(0, firstJumpIndex + 1);
+    List<Statement> newStatements = statements.subList(0, lastReachableIndex + 1);
     return block.withStatements(newStatements);
   }
-
-  private Optional<Integer> findFirstJump(List<Statement> statements) {
-    for (int i = 0; i < statements.size(); i++) {
-      Statement statement = statements.get(i);
-      if (
-          statement instanceof J.Return ||
-          statement instanceof J.Throw ||
-          statement instanceof J.Break ||
-          statement instanceof J.Continue
-      ) {
-        return Optional.of(i);
-      }
-    }
-    return Optional.empty();
-  }
 }
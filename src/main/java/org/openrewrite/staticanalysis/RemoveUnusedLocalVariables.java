@@ -170,10 +170,9 @@ public class RemoveUnusedLocalVariables extends Recipe {
                     return variable;
                 }
 
-                List<J> readReferences = VariableReferences.findRhsReferences(parentScope.getValue(), variable.getName());
-                if (readReferences.isEmpty()) {
-                    List<Statement> assignmentReferences = VariableReferences.findLhsReferences(parentScope.getValue(), variable.getName());
-                    for (Statement ref : assignmentReferences) {
+                DefUseIndex defUse = DefUseIndex.forScope(getCursor());
+                if (defUse.getReads(variable).isEmpty()) {
+                    for (Statement ref : defUse.getWrites(variable)) {
                         if (ref instanceof J.Assignment) {
                             if (mightSideEffect(((J.Assignment) ref).getAssignment())) {
                                 return variable;
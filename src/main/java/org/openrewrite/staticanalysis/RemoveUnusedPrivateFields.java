@@ -30,12 +30,14 @@ import org.openrewrite.java.tree.*;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import static java.util.Collections.singleton;
+import static java.util.Collections.*;
+import static java.util.Objects.requireNonNull;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
 public class RemoveUnusedPrivateFields extends Recipe {
     private static final AnnotationMatcher LOMBOK_ANNOTATION = new AnnotationMatcher("@lombok.*");
+    private static final String UNUSED_FIELDS = "UNUSED_FIELDS";
 
     String displayName = "Remove unused private fields";
 
@@ -48,76 +50,38 @@ public class RemoveUnusedPrivateFields extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         JavaIsoVisitor<ExecutionContext> visitor = new JavaIsoVisitor<ExecutionContext>() {
-            @Value
-            class CheckField {
-                J.VariableDeclarations declarations;
-
-                @Nullable
-                Statement nextStatement;
-            }
-
             @Override
             public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                // Uses are collected once for the outermost class, and every nested class removes its share of the
+                // unused fields from that result, so no class is walked once per field.
+                if (getCursor().getParentOrThrow().firstEnclosing(J.ClassDeclaration.class) == null) {
+                    getCursor().putMessage(UNUSED_FIELDS, new UnusedFields().find(classDecl, getCursor().getParentOrThrow()));
+                }
+
                 J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
 
-                // Do not remove fields if class has Lombok @Data annotation
-                Iterator<Cursor> clz = getCursor().getPathAsCursors(c -> c.getValue() instanceof J.ClassDeclaration);
-                if (clz.hasNext() && service(AnnotationService.class).matches(clz.next(), LOMBOK_ANNOTATION)) {
+                Set<UUID> unusedFields = getCursor().getNearestMessage(UNUSED_FIELDS);
+                if (unusedFields == null || unusedFields.isEmpty()) {
                     return cd;
                 }
 
-                List<CheckField> checkFields = new ArrayList<>();
-                // Do not remove fields with `serialVersionUID` name.
-                boolean skipSerialVersionUID = cd.getType() == null ||
-                        cd.getType().isAssignableTo("java.io.Serializable");
-
                 List<Statement> statements = cd.getBody().getStatements();
                 for (int i = 0; i < statements.size(); i++) {
-                    Statement statement = statements.get(i);
-                    if (statement instanceof J.VariableDeclarations) {
-                        J.VariableDeclarations vd = (J.VariableDeclarations) statement;
-                        // RSPEC-S1068 does not apply serialVersionUID of Serializable classes, or fields with annotations.
-                        if (!(skipSerialVersionUID && isSerialVersionUid(vd)) &&
-                                vd.getLeadingAnnotations().isEmpty() &&
-                                !(vd.getTypeExpression() instanceof J.AnnotatedType) &&
-                                vd.hasModifier(J.Modifier.Type.Private)) {
-                            Statement nextStatement = i < statements.size() - 1 ? statements.get(i + 1) : null;
-                            checkFields.add(new CheckField(vd, nextStatement));
-                        }
-                    } else if (statement instanceof J.MethodDeclaration) {
-                        // RSPEC-S1068 does not apply fields from classes with native methods.
-                        J.MethodDeclaration md = (J.MethodDeclaration) statement;
-                        if (md.hasModifier(J.Modifier.Type.Native)) {
-                            return cd;
-                        }
-                    }
-                }
-
-                if (checkFields.isEmpty()) {
-                    return cd;
-                }
-
-                J.ClassDeclaration outer = cd;
-                for (Cursor parent = getCursor().getParent(); parent != null; parent = parent.getParent()) {
-                    if (parent.getValue() instanceof J.ClassDeclaration) {
-                        outer = parent.getValue();
+                    if (!(statements.get(i) instanceof J.VariableDeclarations)) {
+                        continue;
                     }
-                }
-                for (CheckField checkField : checkFields) {
-                    // Find variable uses.
-                    Map<J.VariableDeclarations.NamedVariable, List<J.Identifier>> inUse =
-                            VariableUses.find(checkField.declarations, outer);
-                    for (Map.Entry<J.VariableDeclarations.NamedVariable, List<J.Identifier>> entry : inUse.entrySet()) {
-                        if (entry.getValue().isEmpty()) {
+                    J.VariableDeclarations vd = (J.VariableDeclarations) statements.get(i);
+                    Statement nextStatement = i < statements.size() - 1 ? statements.get(i + 1) : null;
+                    for (J.VariableDeclarations.NamedVariable fieldToRemove : vd.getVariables()) {
+                        if (unusedFields.contains(fieldToRemove.getId())) {
                             AtomicBoolean declarationDeleted = new AtomicBoolean();
-                            J.VariableDeclarations.NamedVariable fieldToRemove = entry.getKey();
                             cd = (J.ClassDeclaration) new RemoveUnusedField(fieldToRemove).visitNonNull(cd, declarationDeleted);
                             if (fieldToRemove.getType() != null) {
                                 maybeRemoveImport(fieldToRemove.getType().toString());
                             }
                             // Maybe remove next statement comment if variable declarations is removed
                             if (declarationDeleted.get()) {
-                                cd = (J.ClassDeclaration) new MaybeRemoveComment(checkField.nextStatement, cd).visitNonNull(cd, ctx);
+                                cd = (J.ClassDeclaration) new MaybeRemoveComment(nextStatement, cd).visitNonNull(cd, ctx);
                             }
                         }
                     }
@@ -125,83 +89,174 @@ public class RemoveUnusedPrivateFields extends Recipe {
 
                 return cd;
             }
+        };
+        return Preconditions.check(new NoMissingTypes(), visitor);
+    }
 
-            private boolean isSerialVersionUid(J.VariableDeclarations vd) {
-                return vd.hasModifier(J.Modifier.Type.Private) &&
-                        vd.hasModifier(J.Modifier.Type.Static) &&
-                        vd.hasModifier(J.Modifier.Type.Final) &&
-                        TypeUtils.isOfClassType(vd.getType(), "long") &&
-                        vd.getVariables().stream().anyMatch(it -> "serialVersionUID".equals(it.getSimpleName()));
+    /**
+     * Finds the unused private fields of an outermost class and of all classes nested in it, in two traversals.
+     * The first one collects the fields that may be removed, the second one every use of those fields. A field
+     * that is only used in the initializer of other unused fields is unused too, which is resolved without
+     * visiting the class again.
+     */
+    private static class UnusedFields {
+        private final Map<String, J.VariableDeclarations.NamedVariable> bySignature = new HashMap<>();
+        private final Map<String, List<J.VariableDeclarations.NamedVariable>> byName = new HashMap<>();
+        private final Set<J.VariableDeclarations> declarations = newSetFromMap(new IdentityHashMap<>());
+
+        /**
+         * Per field, the number of uses that are not inside the initializer of another removable field.
+         */
+        private final Map<UUID, Integer> liveUses = new HashMap<>();
+
+        /**
+         * Per removable field, the fields it uses in its initializer, once per use.
+         */
+        private final Map<UUID, List<UUID>> usedBy = new HashMap<>();
+
+        Set<UUID> find(J.ClassDeclaration outer, Cursor parent) {
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
+                    addRemovableFields(classDecl, getCursor(), service(AnnotationService.class));
+                    return super.visitClassDeclaration(classDecl, p);
+                }
+            }.visit(outer, 0, parent);
+            if (declarations.isEmpty()) {
+                return emptySet();
             }
 
-        };
-        return Preconditions.check(new NoMissingTypes(), Repeat.repeatUntilStable(visitor));
-    }
+            for (List<J.VariableDeclarations.NamedVariable> fields : byName.values()) {
+                for (J.VariableDeclarations.NamedVariable field : fields) {
+                    liveUses.put(field.getId(), 0);
+                }
+            }
+            JavaType.FullyQualified outerType = outer.getType();
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                    if (identifier.getFieldType() != null) {
+                        addUse(identifier, getCursor(), outerType);
+                    }
+                    return super.visitIdentifier(identifier, p);
+                }
+            }.visit(outer, 0, parent);
+
+            Set<UUID> unused = new HashSet<>();
+            Deque<UUID> newlyUnused = new ArrayDeque<>();
+            for (Map.Entry<UUID, Integer> uses : liveUses.entrySet()) {
+                if (uses.getValue() == 0) {
+                    newlyUnused.add(uses.getKey());
+                }
+            }
+            while (!newlyUnused.isEmpty()) {
+                UUID field = newlyUnused.poll();
+                if (!unused.add(field)) {
+                    continue;
+                }
+                for (UUID used : usedBy.getOrDefault(field, emptyList())) {
+                    if (liveUses.merge(used, -1, Integer::sum) == 0) {
+                        newlyUnused.add(used);
+                    }
+                }
+            }
+            return unused;
+        }
 
-    private static class VariableUses {
-        public static Map<J.VariableDeclarations.NamedVariable, List<J.Identifier>> find(J.VariableDeclarations declarations, J.ClassDeclaration parent) {
-            Map<J.VariableDeclarations.NamedVariable, List<J.Identifier>> found = new IdentityHashMap<>(declarations.getVariables().size());
-            Map<String, J.VariableDeclarations.NamedVariable> signatureMap = new HashMap<>();
-            Map<String, J.VariableDeclarations.NamedVariable> nameMap = new HashMap<>();
-
-            for (J.VariableDeclarations.NamedVariable variable : declarations.getVariables()) {
-                if (variable.getVariableType() != null) {
-                    found.computeIfAbsent(variable, k -> new ArrayList<>());
-                    // Note: Using a variable type signature is only safe to find uses of class fields.
-                    signatureMap.put(variable.getVariableType().toString(), variable);
-                    // Also map by name for fallback matching
-                    nameMap.put(variable.getSimpleName(), variable);
+        private void addRemovableFields(J.ClassDeclaration cd, Cursor cursor, AnnotationService annotationService) {
+            // Do not remove fields if class has Lombok @Data annotation
+            if (annotationService.matches(cursor, LOMBOK_ANNOTATION)) {
+                return;
+            }
+
+            // Do not remove fields with `serialVersionUID` name.
+            boolean skipSerialVersionUID = cd.getType() == null ||
+                    cd.getType().isAssignableTo("java.io.Serializable");
+
+            List<J.VariableDeclarations> removable = new ArrayList<>();
+            for (Statement statement : cd.getBody().getStatements()) {
+                if (statement instanceof J.VariableDeclarations) {
+                    J.VariableDeclarations vd = (J.VariableDeclarations) statement;
+                    // RSPEC-S1068 does not apply serialVersionUID of Serializable classes, or fields with annotations.
+                    if (!(skipSerialVersionUID && isSerialVersionUid(vd)) &&
+                            vd.getLeadingAnnotations().isEmpty() &&
+                            !(vd.getTypeExpression() instanceof J.AnnotatedType) &&
+                            vd.hasModifier(J.Modifier.Type.Private)) {
+                        removable.add(vd);
+                    }
+                } else if (statement instanceof J.MethodDeclaration) {
+                    // RSPEC-S1068 does not apply fields from classes with native methods.
+                    J.MethodDeclaration md = (J.MethodDeclaration) statement;
+                    if (md.hasModifier(J.Modifier.Type.Native)) {
+                        return;
+                    }
                 }
             }
 
-            JavaIsoVisitor<Map<J.VariableDeclarations.NamedVariable, List<J.Identifier>>> visitor =
-                    new JavaIsoVisitor<Map<J.VariableDeclarations.NamedVariable, List<J.Identifier>>>() {
-
-                        @Override
-                        public J.Identifier visitIdentifier(J.Identifier identifier,
-                                                            Map<J.VariableDeclarations.NamedVariable, List<J.Identifier>> identifiers) {
-                            if (identifier.getFieldType() != null) {
-                                J.VariableDeclarations.NamedVariable match = null;
-
-                                // First try exact type signature match
-                                String fieldTypeSignature = identifier.getFieldType().toString();
-                                if (signatureMap.containsKey(fieldTypeSignature)) {
-                                    match = signatureMap.get(fieldTypeSignature);
-                                } else if (identifier.getFieldType().getOwner() != null) {
-                                    // Fallback: match by name if it's a field reference from the same class
-                                    J.VariableDeclarations.NamedVariable nameMatch = nameMap.get(identifier.getSimpleName());
-                                    if (nameMatch != null && nameMatch.getVariableType() != null) {
-                                        // Check if the owner type matches the parent class type
-                                        JavaType.FullyQualified ownerType = TypeUtils.asFullyQualified(identifier.getFieldType().getOwner());
-                                        JavaType.FullyQualified parentType = parent.getType();
-                                        if (ownerType != null && parentType != null &&
-                                                TypeUtils.fullyQualifiedNamesAreEqual(ownerType.getFullyQualifiedName(), parentType.getFullyQualifiedName())) {
-                                            match = nameMatch;
-                                        }
-                                    }
-                                }
-
-                                if (match != null) {
-                                    Cursor parentCursor = getCursor().dropParentUntil(is ->
-                                            is instanceof J.VariableDeclarations || is instanceof J.ClassDeclaration);
-
-                                    if (!(parentCursor.getValue() instanceof J.VariableDeclarations && parentCursor.getValue() == declarations)) {
-                                        if (declarations.getVariables().contains(match)) {
-                                            identifiers.computeIfAbsent(match, k -> new ArrayList<>())
-                                                    .add(identifier);
-                                        }
-                                    }
-                                }
-                            }
-                            return super.visitIdentifier(identifier, identifiers);
-                        }
-                    };
+            for (J.VariableDeclarations vd : removable) {
+                declarations.add(vd);
+                for (J.VariableDeclarations.NamedVariable variable : vd.getVariables()) {
+                    if (variable.getVariableType() != null) {
+                        // Note: Using a variable type signature is only safe to find uses of class fields.
+                        bySignature.put(variable.getVariableType().toString(), variable);
+                        // Also map by name for fallback matching
+                        byName.computeIfAbsent(variable.getSimpleName(), k -> new ArrayList<>()).add(variable);
+                    }
+                }
+            }
+        }
 
-            visitor.visit(parent, found);
-            return found;
+        private void addUse(J.Identifier identifier, Cursor cursor, JavaType.@Nullable FullyQualified outerType) {
+            JavaType.Variable fieldType = requireNonNull(identifier.getFieldType());
+            List<J.VariableDeclarations.NamedVariable> matches;
+
+            // First try exact type signature match
+            J.VariableDeclarations.NamedVariable match = bySignature.get(fieldType.toString());
+            if (match != null) {
+                matches = singletonList(match);
+            } else if (fieldType.getOwner() != null) {
+                // Fallback: match by name if it's a field reference from the outermost class
+                JavaType.FullyQualified ownerType = TypeUtils.asFullyQualified(fieldType.getOwner());
+                if (ownerType == null || outerType == null ||
+                        !TypeUtils.fullyQualifiedNamesAreEqual(ownerType.getFullyQualifiedName(), outerType.getFullyQualifiedName())) {
+                    return;
+                }
+                matches = byName.getOrDefault(identifier.getSimpleName(), emptyList());
+            } else {
+                return;
+            }
+
+            Cursor declaringCursor = cursor.dropParentUntil(is ->
+                    is instanceof J.VariableDeclarations || is instanceof J.ClassDeclaration);
+            J.VariableDeclarations.NamedVariable user = null;
+            if (declaringCursor.getValue() instanceof J.VariableDeclarations &&
+                    declarations.contains(declaringCursor.<J.VariableDeclarations>getValue())) {
+                user = cursor.firstEnclosing(J.VariableDeclarations.NamedVariable.class);
+            }
+
+            for (J.VariableDeclarations.NamedVariable field : matches) {
+                if (declaringCursor.getValue() instanceof J.VariableDeclarations &&
+                        declaringCursor.<J.VariableDeclarations>getValue().getVariables().contains(field)) {
+                    // A field's own declaration is not a use of it
+                    continue;
+                }
+                liveUses.merge(field.getId(), 1, Integer::sum);
+                if (user != null) {
+                    // Only a use for as long as the field whose initializer this is isn't removed
+                    usedBy.computeIfAbsent(user.getId(), k -> new ArrayList<>()).add(field.getId());
+                }
+            }
         }
     }
 
+    private static boolean isSerialVersionUid(J.VariableDeclarations vd) {
+        return vd.hasModifier(J.Modifier.Type.Private) &&
+                vd.hasModifier(J.Modifier.Type.Static) &&
+                vd.hasModifier(J.Modifier.Type.Final) &&
+                TypeUtils.isOfClassType(vd.getType(), "long") &&
+                vd.getVariables().stream().anyMatch(it -> "serialVersionUID".equals(it.getSimpleName()));
+    }
+
     @RequiredArgsConstructor
     private static class RemoveUnusedField extends JavaVisitor<AtomicBoolean> {
         private final J.VariableDeclarations.NamedVariable namedVariable;
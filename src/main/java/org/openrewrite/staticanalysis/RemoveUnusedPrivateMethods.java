@@ -25,12 +25,13 @@ import org.openrewrite.java.search.FindAnnotations;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.*;
 
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
-import static java.util.Collections.singleton;
+import static java.util.Collections.*;
 
 public class RemoveUnusedPrivateMethods extends Recipe {
+    private static final String UNUSED_METHODS = "UNUSED_METHODS";
+    private static final String IMPORTS_CLEANED_UP = "IMPORTS_CLEANED_UP";
 
     @Getter
     final String displayName = "Remove unused private methods";
@@ -50,66 +51,218 @@ public class RemoveUnusedPrivateMethods extends Recipe {
                 if (unusedWarningsSuppressed(classDeclaration)) {
                     return classDeclaration;
                 }
+                // Private methods can only be called from within their outermost class, so that is where the
+                // call graph is built, once for all the classes nested in it
+                if (getCursor().getParentOrThrow().firstEnclosing(J.ClassDeclaration.class) == null) {
+                    JavaSourceFile cu = getCursor().firstEnclosingOrThrow(JavaSourceFile.class);
+                    getCursor().putMessage(UNUSED_METHODS, usesMethodSource(cu) ? emptySet() :
+                            new UnusedMethods(cu).find(classDeclaration, getCursor().getParentOrThrow()));
+                }
                 return super.visitClassDeclaration(classDeclaration, ctx);
             }
 
-            private boolean unusedWarningsSuppressed(J classDeclaration) {
-                for (J.Annotation annotation : FindAnnotations.find(classDeclaration, "java.lang.SuppressWarnings")) {
-                    List<Expression> arguments = annotation.getArguments();
-                    if (arguments != null) {
-                        for (Expression argument : arguments) {
-                            if (J.Literal.isLiteralValue(argument, "all") ||
-                                    J.Literal.isLiteralValue(argument, "unused")) {
-                                return true;
-                            }
-                        }
+            @Override
+            public J.@Nullable MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
+                Set<UUID> unusedMethods = getCursor().getNearestMessage(UNUSED_METHODS);
+                if (unusedMethods != null && unusedMethods.contains(method.getId())) {
+                    Cursor sourceFile = getCursor().dropParentUntil(JavaSourceFile.class::isInstance);
+                    if (sourceFile.getMessage(IMPORTS_CLEANED_UP) == null) {
+                        sourceFile.putMessage(IMPORTS_CLEANED_UP, true);
+                        doAfterVisit(new RemoveUnusedImports().getVisitor());
                     }
+                    //noinspection ConstantConditions
+                    return null;
                 }
-                return false;
+                return m;
             }
+        };
+        return Preconditions.check(new NoMissingTypes(), visitor);
+    }
 
-            @Override
-            public J.@Nullable MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
-                J.MethodDeclaration m = super.visitMethodDeclaration(method, ctx);
-                JavaType.Method methodType = method.getMethodType();
-                if (methodType != null && methodType.hasFlags(Flag.Private) &&
-                        !method.isConstructor() &&
-                        service(AnnotationService.class).getAllAnnotations(getCursor()).isEmpty()) {
-
-                    J.ClassDeclaration classDeclaration = getCursor().firstEnclosing(J.ClassDeclaration.class);
-                    if (classDeclaration == null) {
-                        return m;
+    private static boolean unusedWarningsSuppressed(J classDeclaration) {
+        for (J.Annotation annotation : FindAnnotations.find(classDeclaration, "java.lang.SuppressWarnings")) {
+            List<Expression> arguments = annotation.getArguments();
+            if (arguments != null) {
+                for (Expression argument : arguments) {
+                    if (J.Literal.isLiteralValue(argument, "all") ||
+                            J.Literal.isLiteralValue(argument, "unused")) {
+                        return true;
                     }
-                    switch (m.getSimpleName()) {
-                        case "readObject":
-                        case "readObjectNoData":
-                        case "readResolve":
-                        case "writeObject":
-                        case "writeReplace":
-                            return m;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean usesMethodSource(JavaSourceFile cu) {
+        for (JavaType javaType : cu.getTypesInUse().getTypesInUse()) {
+            if (TypeUtils.isOfClassType(javaType, "org.junit.jupiter.params.provider.MethodSource")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The private call graph of one outermost class. Every private method that may be removed is a node, and
+     * every method reference inside it an edge to the private methods it may refer to. References from anywhere
+     * else are the roots, and a private method is unused when it cannot be reached from them, so methods that
+     * are only called by other unused methods, or by themselves, are found in the same pass.
+     * <p>
+     * References are resolved with {@link TypeUtils#isOfTypeIgnoringGenerics(JavaType, JavaType)}, but only
+     * against the methods of the same name and arity, which are looked up by that signature. The used methods of
+     * the source file are indexed the same way.
+     */
+    private static class UnusedMethods extends JavaIsoVisitor<Integer> {
+        private final Map<String, List<JavaType.Method>> usedMethods = new HashMap<>();
+        private final Map<String, List<J.MethodDeclaration>> bySignature = new HashMap<>();
+        private final Map<UUID, List<JavaType.Method>> referencesBy = new HashMap<>();
+        private final List<JavaType.Method> rootReferences = new ArrayList<>();
+        private final Deque<UUID> owners = new ArrayDeque<>();
+        private int suppressed;
+
+        UnusedMethods(JavaSourceFile cu) {
+            for (JavaType.Method usedMethod : cu.getTypesInUse().getUsedMethods()) {
+                usedMethods.computeIfAbsent(signature(usedMethod), k -> new ArrayList<>()).add(usedMethod);
+            }
+        }
+
+        Set<UUID> find(J.ClassDeclaration classDecl, Cursor parent) {
+            visit(classDecl, 0, parent);
+
+            Set<UUID> referenced = new HashSet<>();
+            Set<UUID> live = new HashSet<>();
+            Deque<UUID> worklist = new ArrayDeque<>();
+            for (JavaType.Method reference : rootReferences) {
+                markReferenced(reference, referenced, live, worklist);
+            }
+            for (List<JavaType.Method> references : referencesBy.values()) {
+                for (JavaType.Method reference : references) {
+                    markReferenced(reference, referenced, null, null);
+                }
+            }
+            // Uses that were not seen as references in the class, such as those only known to the types in use,
+            // conservatively keep a method alive
+            for (List<J.MethodDeclaration> declarations : bySignature.values()) {
+                for (J.MethodDeclaration declaration : declarations) {
+                    if (!referenced.contains(declaration.getId()) && isUsedElsewhere(declaration) && live.add(declaration.getId())) {
+                        worklist.add(declaration.getId());
                     }
+                }
+            }
+            while (!worklist.isEmpty()) {
+                for (JavaType.Method reference : referencesBy.getOrDefault(worklist.poll(), emptyList())) {
+                    markReferenced(reference, referenced, live, worklist);
+                }
+            }
 
-                    JavaSourceFile cu = getCursor().firstEnclosingOrThrow(JavaSourceFile.class);
-                    for (JavaType.Method usedMethodType : cu.getTypesInUse().getUsedMethods()) {
-                        if (TypeUtils.isOfTypeIgnoringGenerics(methodType, usedMethodType)) {
-                            return m;
-                        }
+            Set<UUID> unused = new HashSet<>();
+            for (List<J.MethodDeclaration> declarations : bySignature.values()) {
+                for (J.MethodDeclaration declaration : declarations) {
+                    if (!live.contains(declaration.getId())) {
+                        unused.add(declaration.getId());
                     }
+                }
+            }
+            return unused;
+        }
 
-                    for (JavaType javaType : cu.getTypesInUse().getTypesInUse()) {
-                        if (TypeUtils.isOfClassType(javaType, "org.junit.jupiter.params.provider.MethodSource")) {
-                            return m;
-                        }
+        private void markReferenced(JavaType.Method reference, Set<UUID> referenced, @Nullable Set<UUID> live, @Nullable Deque<UUID> worklist) {
+            for (J.MethodDeclaration declaration : bySignature.getOrDefault(signature(reference), emptyList())) {
+                //noinspection DataFlowIssue
+                if (TypeUtils.isOfTypeIgnoringGenerics(declaration.getMethodType(), reference)) {
+                    referenced.add(declaration.getId());
+                    if (live != null && live.add(declaration.getId())) {
+                        worklist.add(declaration.getId());
                     }
+                }
+            }
+        }
 
-                    doAfterVisit(new RemoveUnusedImports().getVisitor());
-                    //noinspection ConstantConditions
-                    return null;
+        private boolean isUsedElsewhere(J.MethodDeclaration declaration) {
+            //noinspection DataFlowIssue
+            for (JavaType.Method usedMethod : usedMethods.getOrDefault(signature(declaration.getMethodType()), emptyList())) {
+                if (TypeUtils.isOfTypeIgnoringGenerics(declaration.getMethodType(), usedMethod)) {
+                    return true;
                 }
+            }
+            return false;
+        }
 
-                return m;
+        private static String signature(JavaType.Method method) {
+            return method.getName() + '/' + method.getParameterTypes().size();
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
+            boolean suppressing = unusedWarningsSuppressed(classDecl);
+            if (suppressing) {
+                suppressed++;
             }
-        };
-        return Preconditions.check(new NoMissingTypes(), Repeat.repeatUntilStable(visitor));
+            try {
+                return super.visitClassDeclaration(classDecl, p);
+            } finally {
+                if (suppressing) {
+                    suppressed--;
+                }
+            }
+        }
+
+        @Override
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Integer p) {
+            if (!isRemovable(method)) {
+                return super.visitMethodDeclaration(method, p);
+            }
+            //noinspection DataFlowIssue
+            bySignature.computeIfAbsent(signature(method.getMethodType()), k -> new ArrayList<>()).add(method);
+            owners.push(method.getId());
+            try {
+                return super.visitMethodDeclaration(method, p);
+            } finally {
+                owners.pop();
+            }
+        }
+
+        private boolean isRemovable(J.MethodDeclaration method) {
+            JavaType.Method methodType = method.getMethodType();
+            if (suppressed > 0 || methodType == null || !methodType.hasFlags(Flag.Private) || method.isConstructor() ||
+                !service(AnnotationService.class).getAllAnnotations(getCursor()).isEmpty()) {
+                return false;
+            }
+            switch (method.getSimpleName()) {
+                case "readObject":
+                case "readObjectNoData":
+                case "readResolve":
+                case "writeObject":
+                case "writeReplace":
+                    return false;
+                default:
+                    return true;
+            }
+        }
+
+        @Override
+        public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+            addReference(method.getMethodType());
+            return super.visitMethodInvocation(method, p);
+        }
+
+        @Override
+        public J.MemberReference visitMemberReference(J.MemberReference memberRef, Integer p) {
+            addReference(memberRef.getMethodType());
+            return super.visitMemberReference(memberRef, p);
+        }
+
+        private void addReference(JavaType.@Nullable Method methodType) {
+            if (methodType == null) {
+                return;
+            }
+            if (owners.isEmpty()) {
+                rootReferences.add(methodType);
+            } else {
+                referencesBy.computeIfAbsent(owners.peek(), k -> new ArrayList<>()).add(methodType);
+            }
+        }
     }
 }
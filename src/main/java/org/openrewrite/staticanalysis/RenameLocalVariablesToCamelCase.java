@@ -41,6 +41,7 @@ import static org.openrewrite.internal.NameCaseConvention.LOWER_CAMEL;
  * - The recipe will not rename variables declared in a class.
  * - The recipe will not rename variables if the result already exists in a class or the result will be a java reserved keyword.
  */
+@VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
 public class RenameLocalVariablesToCamelCase extends Recipe {
 
     @Getter
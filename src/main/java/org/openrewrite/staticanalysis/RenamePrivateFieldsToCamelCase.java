@@ -43,6 +43,7 @@ import static org.openrewrite.internal.NameCaseConvention.LOWER_CAMEL;
  * Currently, unsupported:
  * - The recipe will not rename fields if the result already exists in a class or the result will be a java reserved keyword.
  */
+@VisitorSharing(VisitorSharing.Mode.PER_SOURCE_FILE)
 public class RenamePrivateFieldsToCamelCase extends Recipe {
     private static final AnnotationMatcher LOMBOK_ANNOTATION = new AnnotationMatcher("@lombok.*");
 
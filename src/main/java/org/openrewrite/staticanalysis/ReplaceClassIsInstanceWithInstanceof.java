@@ -24,7 +24,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.J.FieldAccess;
@@ -57,7 +56,7 @@ public class ReplaceClassIsInstanceWithInstanceof extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         // use JavaVisitor instead of JavaIsoVisitor because we changed the type of LST
-        return Preconditions.check(new UsesMethod<>(ISINSTANCE_MATCHER), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(PreconditionIndex.usesMethod(ISINSTANCE_MATCHER), new JavaVisitor<ExecutionContext>() {
 
             @Override
             public J visitMethodInvocation(MethodInvocation method, ExecutionContext ctx) {
@@ -23,7 +23,6 @@ import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.marker.JavaSourceSet;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 
 import java.time.Duration;
@@ -62,7 +61,7 @@ public class ReplaceDuplicateStringLiterals extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("java.lang.String", false), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(PreconditionIndex.usesType("java.lang.String", false), new JavaVisitor<ExecutionContext>() {
             @Override
             public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
                 if (tree instanceof JavaSourceFile) {
@@ -203,6 +202,43 @@ public class ReplaceDuplicateStringLiterals extends Recipe {
         public static DuplicateLiteralInfo find(J.ClassDeclaration inClass) {
             DuplicateLiteralInfo result = new DuplicateLiteralInfo(new LinkedHashMap<>(), new LinkedHashMap<>(), new HashMap<>());
             new JavaIsoVisitor<Integer>() {
+                // The nearest enclosing class, variable, constructor call or method invocation, and the nearest
+                // enclosing class or method, kept while descending rather than looked up from every literal
+                private final Deque<J> owners = new ArrayDeque<>();
+                private final Deque<J> scopes = new ArrayDeque<>();
+                private int enumValueSets;
+
+                @Override
+                public @Nullable J visit(@Nullable Tree tree, Integer integer) {
+                    boolean owner = tree instanceof J.ClassDeclaration ||
+                                    tree instanceof J.VariableDeclarations.NamedVariable ||
+                                    tree instanceof J.NewClass ||
+                                    tree instanceof J.MethodInvocation;
+                    boolean scope = tree instanceof J.ClassDeclaration || tree instanceof J.MethodDeclaration;
+                    boolean enumValueSet = tree instanceof J.EnumValueSet;
+                    if (owner) {
+                        owners.push((J) tree);
+                    }
+                    if (scope) {
+                        scopes.push((J) tree);
+                    }
+                    if (enumValueSet) {
+                        enumValueSets++;
+                    }
+                    try {
+                        return super.visit(tree, integer);
+                    } finally {
+                        if (owner) {
+                            owners.pop();
+                        }
+                        if (scope) {
+                            scopes.pop();
+                        }
+                        if (enumValueSet) {
+                            enumValueSets--;
+                        }
+                    }
+                }
 
                 @Override
                 public J.Annotation visitAnnotation(J.Annotation annotation, Integer integer) {
@@ -213,17 +249,16 @@ public class ReplaceDuplicateStringLiterals extends Recipe {
                 @Override
                 public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Integer integer) {
                     J.VariableDeclarations.NamedVariable v = super.visitVariable(variable, integer);
-                    Cursor parentScope = getCursor().dropParentUntil(is -> is instanceof J.ClassDeclaration || is instanceof J.MethodDeclaration);
+                    J parentScope = requireNonNull(scopes.peek());
                     boolean privateStaticFinalVariable = isPrivateStaticFinalVariable(variable);
                     // `private static final String`(s) are handled separately by `FindExistingPrivateStaticFinalFields`.
                     if (v.getInitializer() instanceof J.Literal &&
-                            (parentScope.getValue() instanceof J.MethodDeclaration || parentScope.getValue() instanceof J.ClassDeclaration) &&
                             !(privateStaticFinalVariable && ((J.Literal) v.getInitializer()).getValue() instanceof String) &&
                             !(((J.Literal) v.getInitializer()).getValue() == null)) {
                         String value = ((J.Literal) v.getInitializer()).getValue().toString();
                         result.existingFieldValueToFieldName.put(v.getSimpleName(), value);
                     }
-                    if (parentScope.getValue() instanceof J.ClassDeclaration &&
+                    if (parentScope instanceof J.ClassDeclaration &&
                         privateStaticFinalVariable && v.getInitializer() instanceof J.Literal &&
                         ((J.Literal) v.getInitializer()).getValue() instanceof String) {
                         String value = (String) (((J.Literal) v.getInitializer()).getValue());
@@ -238,20 +273,16 @@ public class ReplaceDuplicateStringLiterals extends Recipe {
                         literal.getValue() instanceof String &&
                         ((String) literal.getValue()).length() >= 5) {
 
-                        Cursor parent = getCursor().dropParentUntil(is -> is instanceof J.ClassDeclaration ||
-                                                                          is instanceof J.Annotation ||
-                                                                          is instanceof J.VariableDeclarations.NamedVariable ||
-                                                                          is instanceof J.NewClass ||
-                                                                          is instanceof J.MethodInvocation);
+                        J parent = requireNonNull(owners.peek());
                         // EnumValue can accept constructor arguments, including string literals
                         // But the static field can't be placed before them, so these literals are ineligible for replacement
-                        if (parent.getValue() instanceof J.NewClass && parent.firstEnclosing(J.EnumValueSet.class) != null) {
+                        if (parent instanceof J.NewClass && enumValueSets > 0) {
                             return literal;
                         }
 
-                        if ((parent.getValue() instanceof J.VariableDeclarations.NamedVariable && !isPrivateStaticFinalVariable(parent.getValue())) ||
-                             parent.getValue() instanceof J.NewClass ||
-                             parent.getValue() instanceof J.MethodInvocation) {
+                        if ((parent instanceof J.VariableDeclarations.NamedVariable && !isPrivateStaticFinalVariable((J.VariableDeclarations.NamedVariable) parent)) ||
+                             parent instanceof J.NewClass ||
+                             parent instanceof J.MethodInvocation) {
 
                             result.duplicateLiterals.computeIfAbsent((String) literal.getValue(), k -> new ArrayList<>(1)).add(literal);
                         }
@@ -26,7 +26,6 @@ import org.openrewrite.analysis.dataflow.FindLocalFlowPaths;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.ChangeType;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.staticanalysis.table.LegacySynchronizedTypesNotMigrated;
 
@@ -76,7 +75,7 @@ abstract class ReplaceLegacyCollection extends Recipe {
         java.util.Set<String> incompatibleMethods = getIncompatibleMethods();
         java.util.Set<String> incompatibleTargets = new java.util.HashSet<>(getIncompatibleSupertypes());
         incompatibleTargets.add(legacyType);
-        return Preconditions.check(new UsesType<>(legacyType, false), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(PreconditionIndex.usesType(legacyType, false), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, ExecutionContext ctx) {
                 J.VariableDeclarations.NamedVariable v = super.visitVariable(variable, ctx);
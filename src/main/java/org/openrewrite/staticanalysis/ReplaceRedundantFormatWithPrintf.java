@@ -25,7 +25,6 @@ import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -55,12 +54,12 @@ public class ReplaceRedundantFormatWithPrintf extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(Preconditions.and(
                 Preconditions.or(
-                        new UsesMethod<>(STRING_FORMAT_MATCHER_LOCALE),
-                        new UsesMethod<>(STRING_FORMAT_MATCHER_NO_LOCALE)
+                        PreconditionIndex.usesMethod(STRING_FORMAT_MATCHER_LOCALE),
+                        PreconditionIndex.usesMethod(STRING_FORMAT_MATCHER_NO_LOCALE)
                 ),
                 Preconditions.or(
-                        new UsesMethod<>(PRINTSTREAM_PRINT_MATCHER),
-                        new UsesMethod<>(PRINTSTREAM_PRINTLN_MATCHER)
+                        PreconditionIndex.usesMethod(PRINTSTREAM_PRINT_MATCHER),
+                        PreconditionIndex.usesMethod(PRINTSTREAM_PRINTLN_MATCHER)
                 )
         ), new JavaIsoVisitor<ExecutionContext>() {
             @Override
@@ -19,7 +19,6 @@ import lombok.Getter;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 import java.util.Set;
@@ -47,8 +46,8 @@ public class ReplaceWeekYearWithYear extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesMethod<>(SIMPLE_DATE_FORMAT_CONSTRUCTOR_MATCHER),
-                        new UsesMethod<>(OF_PATTERN_MATCHER)
+                        PreconditionIndex.usesMethod(SIMPLE_DATE_FORMAT_CONSTRUCTOR_MATCHER),
+                        PreconditionIndex.usesMethod(OF_PATTERN_MATCHER)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.tree.J;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link SemanticallyEqual#areEqual(J, J)} with a structural hash in front of it. Trees with different hashes
+ * cannot be semantically equal, so most unequal pairs are rejected without comparing them, and only pairs
+ * whose hashes collide pay for the full comparison.
+ * <p>
+ * Hashes are remembered for the whole recipe run in a {@link TreeCache}, so recipes that compare the same
+ * subtrees share the work.
+ */
+final class SemanticEqualityCache {
+    private static final String CACHE_KEY = SemanticEqualityCache.class.getName();
+
+    private SemanticEqualityCache() {
+    }
+
+    static boolean areEqual(J j1, J j2, ExecutionContext ctx) {
+        if (hash(j1, ctx) != hash(j2, ctx)) {
+            return false;
+        }
+        return SemanticallyEqual.areEqual(j1, j2);
+    }
+
+    /**
+     * @return A hash that is the same for any two trees that are semantically equal, for recipes that bucket
+     * trees before comparing them.
+     */
+    static int hash(J tree, ExecutionContext ctx) {
+        return TreeCache.<J, Integer>of(ctx, CACHE_KEY, TreeCache.SUBTREES)
+                .computeIfAbsent(tree, SemanticEqualityCache::computeHash);
+    }
+
+    /**
+     * Only parts of the tree that {@link SemanticallyEqual} compares exactly contribute to the hash: the names of
+     * invoked methods and the values of literals. They are summed rather than chained, so that two trees that are
+     * equal up to the order of commutative operands still hash the same.
+     */
+    private static int computeHash(J tree) {
+        return new JavaIsoVisitor<AtomicInteger>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicInteger h) {
+                h.addAndGet(31 * method.getSimpleName().hashCode());
+                return super.visitMethodInvocation(method, h);
+            }
+
+            @Override
+            public J.Literal visitLiteral(J.Literal literal, AtomicInteger h) {
+                h.addAndGet(Objects.hashCode(literal.getValue()));
+                return literal;
+            }
+        }.reduce(tree, new AtomicInteger()).get();
+    }
+}
@@ -16,76 +16,251 @@
 package org.openrewrite.staticanalysis;
 
 import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.Tree;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Whether evaluating an expression might do something observable beyond producing its value. Recipes that
  * delete an expression, or that stop evaluating one, are only correct when the answer is {@code false}.
  * <p>
- * Deliberately conservative: any method invocation, constructor call, assignment or increment counts, since
- * whether those are pure cannot be decided from the LST alone. {@link org.openrewrite.java.tree.Expression#getSideEffects()}
+ * Deliberately conservative: any assignment or increment counts, and so does any method invocation or constructor
+ * call, unless {@link PuritySummaries} knows the method to be pure. {@link org.openrewrite.java.tree.Expression#getSideEffects()}
  * is not used here because it reports only the side effects of the expression's own node type, and so misses
  * those nested inside a ternary or a lambda.
+ * <p>
+ * Expressions are walked with an explicit stack rather than a visitor, so that a query allocates neither a visitor
+ * nor a cursor per node. Answers are remembered in a message of the cursor of the source file being visited, for
+ * the expression asked about and every subtree that had to be inspected on the way, so later queries about the
+ * same subtrees share the work. The memo is confined to the visit of that very source file instance, and with it
+ * to its purity summaries, and is keyed by tree identity, so a tree that a recipe changed is never answered for by
+ * the tree it replaced.
  */
 final class SideEffects {
+    private static final String MEMO_KEY = SideEffects.class.getName();
 
     private SideEffects() {
     }
 
-    static boolean mayHaveSideEffects(@Nullable J tree) {
+    /**
+     * @param cursor A cursor inside the source file the tree belongs to, whose own pure methods may then be called.
+     */
+    static boolean mayHaveSideEffects(@Nullable J tree, Cursor cursor, ExecutionContext ctx) {
         if (tree == null) {
             return false;
         }
-        return new JavaIsoVisitor<AtomicBoolean>() {
-            @Override
-            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, AtomicBoolean result) {
-                result.set(true);
-                return method;
-            }
+        Cursor sourceFile = sourceFileCursor(cursor);
+        if (sourceFile == null) {
+            return new Memo(PuritySummaries.forCursor(cursor, ctx)).mayHaveSideEffects(tree);
+        }
+        Memo memo = sourceFile.computeMessageIfAbsent(MEMO_KEY, k -> new Memo(PuritySummaries.forCursor(sourceFile, ctx)));
+        return memo.mayHaveSideEffects(tree);
+    }
 
-            @Override
-            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean result) {
-                result.set(true);
-                return assignment;
+    /**
+     * The answer remembered for a tree of the source file a cursor is in, without computing it.
+     */
+    static @Nullable Boolean remembered(J tree, Cursor cursor) {
+        Cursor sourceFile = sourceFileCursor(cursor);
+        if (sourceFile == null) {
+            return null;
+        }
+        Memo memo = sourceFile.getMessage(MEMO_KEY);
+        return memo == null ? null : memo.answers.get(tree);
+    }
+
+    private static @Nullable Cursor sourceFileCursor(Cursor cursor) {
+        for (Cursor c = cursor; c != null; c = c.getParent()) {
+            if (c.getValue() instanceof JavaSourceFile) {
+                return c;
             }
+        }
+        return null;
+    }
 
-            @Override
-            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean result) {
-                result.set(true);
-                return assignOp;
+    private static class Memo {
+        private final PuritySummaries purity;
+        private final Map<J, Boolean> answers = new IdentityHashMap<>();
+
+        /**
+         * The trees still to inspect, and above each tree whose children were pushed, that tree again marked as
+         * exiting, to remember once all of its children turned out to have no side effect.
+         */
+        private J[] stack = new J[32];
+        private boolean[] exiting = new boolean[32];
+        private int size;
+
+        Memo(PuritySummaries purity) {
+            this.purity = purity;
+        }
+
+        boolean mayHaveSideEffects(J tree) {
+            push(tree, false);
+            while (size > 0) {
+                J j = stack[--size];
+                stack[size] = null;
+                if (exiting[size]) {
+                    answers.put(j, false);
+                    continue;
+                }
+                Boolean known = answers.get(j);
+                if (known == null) {
+                    if (hasOwnSideEffect(j)) {
+                        known = true;
+                    } else {
+                        push(j, true);
+                        if (pushChildren(j)) {
+                            continue;
+                        }
+                        stack[--size] = null;
+                        Fallback fallback = new Fallback();
+                        fallback.visit(j, this);
+                        known = fallback.found;
+                        answers.put(j, known);
+                    }
+                }
+                if (known) {
+                    // Whatever is marked as exiting is an enclosing tree of this one, the rest are unvisited siblings
+                    while (size > 0) {
+                        J enclosing = stack[--size];
+                        stack[size] = null;
+                        if (exiting[size]) {
+                            answers.put(enclosing, true);
+                        }
+                    }
+                    return true;
+                }
             }
+            return false;
+        }
 
-            @Override
-            public J.Unary visitUnary(J.Unary unary, AtomicBoolean result) {
-                switch (unary.getOperator()) {
+        private boolean hasOwnSideEffect(J j) {
+            if (j instanceof J.MethodInvocation) {
+                return !purity.isPure(((J.MethodInvocation) j).getMethodType());
+            } else if (j instanceof J.NewClass) {
+                J.NewClass newClass = (J.NewClass) j;
+                return newClass.getBody() != null || !purity.isPure(newClass.getConstructorType());
+            } else if (j instanceof J.Assignment || j instanceof J.AssignmentOperation) {
+                return true;
+            } else if (j instanceof J.Unary) {
+                switch (((J.Unary) j).getOperator()) {
                     case PreIncrement:
                     case PreDecrement:
                     case PostIncrement:
                     case PostDecrement:
-                        result.set(true);
-                        return unary;
+                        return true;
                     default:
-                        return super.visitUnary(unary, result);
+                        return false;
                 }
             }
+            return false;
+        }
 
-            @Override
-            public J.NewClass visitNewClass(J.NewClass newClass, AtomicBoolean result) {
-                result.set(true);
-                return newClass;
+        /**
+         * Pushes the evaluated children of the expressions that are common in conditions and arguments, last child
+         * first, so that they are inspected in evaluation order.
+         *
+         * @return {@code false} without pushing anything for any other tree, which then has to be visited.
+         */
+        private boolean pushChildren(J j) {
+            if (j instanceof J.Identifier || j instanceof J.Literal || j instanceof J.Empty) {
+                return true;
+            } else if (j instanceof J.MethodInvocation) {
+                // The receiver and the arguments of a pure method are still evaluated
+                J.MethodInvocation method = (J.MethodInvocation) j;
+                pushAll(method.getArguments());
+                push(method.getSelect(), false);
+            } else if (j instanceof J.NewClass) {
+                J.NewClass newClass = (J.NewClass) j;
+                pushAll(newClass.getArguments());
+                push(newClass.getEnclosing(), false);
+            } else if (j instanceof J.Unary) {
+                push(((J.Unary) j).getExpression(), false);
+            } else if (j instanceof J.Binary) {
+                J.Binary binary = (J.Binary) j;
+                push(binary.getRight(), false);
+                push(binary.getLeft(), false);
+            } else if (j instanceof J.Ternary) {
+                J.Ternary ternary = (J.Ternary) j;
+                push(ternary.getFalsePart(), false);
+                push(ternary.getTruePart(), false);
+                push(ternary.getCondition(), false);
+            } else if (j instanceof J.Parentheses) {
+                push(((J.Parentheses<?>) j).getTree(), false);
+            } else if (j instanceof J.ControlParentheses) {
+                push(((J.ControlParentheses<?>) j).getTree(), false);
+            } else if (j instanceof J.TypeCast) {
+                push(((J.TypeCast) j).getExpression(), false);
+            } else if (j instanceof J.InstanceOf) {
+                push(((J.InstanceOf) j).getExpression(), false);
+            } else if (j instanceof J.FieldAccess) {
+                push(((J.FieldAccess) j).getTarget(), false);
+            } else if (j instanceof J.ArrayAccess) {
+                J.ArrayAccess arrayAccess = (J.ArrayAccess) j;
+                push(arrayAccess.getDimension().getIndex(), false);
+                push(arrayAccess.getIndexed(), false);
+            } else if (j instanceof J.NewArray) {
+                J.NewArray newArray = (J.NewArray) j;
+                if (newArray.getInitializer() != null) {
+                    pushAll(newArray.getInitializer());
+                }
+                for (int i = newArray.getDimensions().size() - 1; i >= 0; i--) {
+                    push(newArray.getDimensions().get(i).getIndex(), false);
+                }
+            } else if (j instanceof J.MemberReference) {
+                push(((J.MemberReference) j).getContaining(), false);
+            } else if (j instanceof J.Lambda && !(((J.Lambda) j).getBody() instanceof J.Block)) {
+                push(((J.Lambda) j).getBody(), false);
+            } else {
+                return false;
             }
+            return true;
+        }
 
-            @Override
-            public @Nullable J visit(@Nullable Tree t, AtomicBoolean result) {
-                if (result.get()) {
-                    return (J) t;
-                }
-                return super.visit(t, result);
+        private void pushAll(List<? extends J> trees) {
+            for (int i = trees.size() - 1; i >= 0; i--) {
+                push(trees.get(i), false);
+            }
+        }
+
+        private void push(@Nullable J tree, boolean exit) {
+            if (tree == null) {
+                return;
             }
-        }.reduce(tree, new AtomicBoolean(false)).get();
+            if (size == stack.length) {
+                stack = Arrays.copyOf(stack, size * 2);
+                exiting = Arrays.copyOf(exiting, size * 2);
+            }
+            stack[size] = tree;
+            exiting[size++] = exit;
+        }
+    }
+
+    /**
+     * Inspects the trees that the explicit stack does not know the children of, like statement lambdas and switch
+     * expressions, which are rare enough in the expressions asked about not to be worth remembering.
+     */
+    private static class Fallback extends JavaIsoVisitor<Memo> {
+        private boolean found;
+
+        @Override
+        public @Nullable J visit(@Nullable Tree t, Memo memo) {
+            if (found || t == null) {
+                return (J) t;
+            }
+            if (t instanceof J && memo.hasOwnSideEffect((J) t)) {
+                found = true;
+                return (J) t;
+            }
+            return super.visit(t, memo);
+        }
     }
 }
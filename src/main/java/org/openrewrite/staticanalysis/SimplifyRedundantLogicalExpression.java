@@ -20,7 +20,6 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.SemanticallyEqual;
 import org.openrewrite.java.tree.J;
 
 import java.time.Duration;
@@ -55,8 +54,8 @@ public class SimplifyRedundantLogicalExpression extends Recipe {
                     case Or:
                     case BitAnd:
                     case BitOr:
-                        if (SemanticallyEqual.areEqual(b.getLeft(), b.getRight()) &&
-                                !mayHaveSideEffects(b.getLeft())) {
+                        if (SemanticEqualityCache.areEqual(b.getLeft(), b.getRight(), ctx) &&
+                                !mayHaveSideEffects(b.getLeft(), getCursor(), ctx)) {
                             return b.getLeft().unwrap().withPrefix(b.getPrefix());
                         }
                         break;
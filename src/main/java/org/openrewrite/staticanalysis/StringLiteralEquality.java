@@ -18,10 +18,8 @@ package org.openrewrite.staticanalysis;
 import lombok.Getter;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
-import org.openrewrite.staticanalysis.java.JavaFileChecker;
 
 import java.util.Set;
 
@@ -49,7 +47,7 @@ public class StringLiteralEquality extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         // Don't change for other language than Java, because other languages uses different constructs.
         // For example, in Kotlin `==` means structural equality, so it is redundant to call equals().
-        return Preconditions.check(Preconditions.and(new JavaFileChecker<>(), new UsesType<>("java.lang.String", false)), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(PreconditionIndex.usesType("java.lang.String", false, J.CompilationUnit.class), new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitBinary(J.Binary binary, ExecutionContext ctx) {
                 if (isStringLiteral(binary.getLeft()) || isStringLiteral(binary.getRight())) {
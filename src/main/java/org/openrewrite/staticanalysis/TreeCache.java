@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Values computed from trees and remembered for the whole recipe run in the {@link ExecutionContext}, so that the
+ * recipes of a composite, and later cycles, share the work.
+ * <p>
+ * Values are keyed by tree id and only trusted while they still refer to the very same tree instance, since a
+ * tree that a recipe changed keeps its id. Trees are only weakly referenced, and at most a fixed number of values
+ * are kept, least recently used first out. The lock is only held to look values up and to remember them, never
+ * while computing one, so threads that share the context do not wait on each other's traversals. Two threads may
+ * then compute the same value, and the one remembered last wins.
+ */
+final class TreeCache<T extends Tree, V> {
+    /**
+     * The size of caches that hold a value per source file.
+     */
+    static final int SOURCE_FILES = 1024;
+
+    /**
+     * The size of caches that hold a value per subtree, such as a statement or an expression.
+     */
+    static final int SUBTREES = 16384;
+
+    private final Map<UUID, Entry<T, V>> entries;
+
+    private TreeCache(int maxEntries) {
+        this.entries = new LinkedHashMap<UUID, Entry<T, V>>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry<T, V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param key        The message key of the cache, one per kind of value.
+     * @param maxEntries Either {@link #SOURCE_FILES} or {@link #SUBTREES}.
+     * @return The cache of the recipe run.
+     */
+    static <T extends Tree, V> TreeCache<T, V> of(ExecutionContext ctx, String key, int maxEntries) {
+        return ctx.computeMessageIfAbsent(key, k -> new TreeCache<>(maxEntries));
+    }
+
+    /**
+     * @param compute Computes the value of a tree that is not cached yet. It may itself ask this cache for the
+     *                values of other trees.
+     */
+    V computeIfAbsent(T tree, Function<? super T, ? extends V> compute) {
+        V value = get(tree);
+        if (value == null) {
+            value = compute.apply(tree);
+            put(tree, value);
+        }
+        return value;
+    }
+
+    synchronized @Nullable V get(T tree) {
+        Entry<T, V> entry = entries.get(tree.getId());
+        return entry == null || entry.tree.get() != tree ? null : entry.value;
+    }
+
+    synchronized void put(T tree, V value) {
+        entries.put(tree.getId(), new Entry<>(tree, value));
+    }
+
+    private static class Entry<T, V> {
+        final WeakReference<T> tree;
+        final V value;
+
+        Entry(T tree, V value) {
+            this.tree = new WeakReference<>(tree);
+            this.value = value;
+        }
+    }
+}
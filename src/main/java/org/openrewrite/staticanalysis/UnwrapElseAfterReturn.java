@@ -55,14 +55,14 @@ public class UnwrapElseAfterReturn extends Recipe {
                 J.Block alteredBlock = b.withStatements(ListUtils.flatMap(b.getStatements(), statement -> {
                     if (statement instanceof J.If) {
                         J.If ifStatement = (J.If) statement;
-                        if (ifStatement.getElsePart() != null && endsWithReturnOrThrow(ifStatement.getThenPart())) {
+                        if (ifStatement.getElsePart() != null && ControlFlow.alwaysReturnsOrThrows(ifStatement.getThenPart(), ctx)) {
                             Statement elsePart = ifStatement.getElsePart().getBody();
                             if (elsePart instanceof J.If) {
                                 // Else-if chain: find and unwrap the innermost else
                                 J.If innermost = findInnermostIfWithElse((J.If) elsePart);
                                 if (innermost != null &&
                                         innermost.getElsePart() != null &&
-                                        endsWithReturnOrThrow(innermost.getThenPart()) &&
+                                        ControlFlow.alwaysReturnsOrThrows(innermost.getThenPart(), ctx) &&
                                         !(innermost.getElsePart().getBody() instanceof J.If)) {
                                     // Unwrap the innermost else
                                     J.If modifiedChain = removeInnermostElse(ifStatement);
@@ -138,20 +138,6 @@ public class UnwrapElseAfterReturn extends Recipe {
                 // Direct else (not else-if), remove it
                 return ifStatement.withElsePart(null);
             }
-
-            private boolean endsWithReturnOrThrow(Statement statement) {
-                if (statement instanceof J.Return || statement instanceof J.Throw) {
-                    return true;
-                }
-                if (statement instanceof J.Block) {
-                    J.Block block = (J.Block) statement;
-                    if (!block.getStatements().isEmpty()) {
-                        Statement lastStatement = block.getStatements().get(block.getStatements().size() - 1);
-                        return lastStatement instanceof J.Return || lastStatement instanceof J.Throw;
-                    }
-                }
-                return false;
-            }
         };
         return Repeat.repeatUntilStable(javaVisitor);
     }
@@ -21,7 +21,6 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.staticanalysis.java.JavaFileChecker;
@@ -54,14 +53,14 @@ public class UpperCaseLiteralSuffixes extends Recipe {
                 Preconditions.and(
                         new JavaFileChecker<>(),
                         Preconditions.or(
-                                new UsesType<>("int", false),
-                                new UsesType<>("java.lang.Integer", false),
-                                new UsesType<>("long", false),
-                                new UsesType<>("java.lang.Long", false),
-                                new UsesType<>("double", false),
-                                new UsesType<>("java.lang.Double", false),
-                                new UsesType<>("float", false),
-                                new UsesType<>("java.lang.Float", false)
+                                PreconditionIndex.usesType("int", false),
+                                PreconditionIndex.usesType("java.lang.Integer", false),
+                                PreconditionIndex.usesType("long", false),
+                                PreconditionIndex.usesType("java.lang.Long", false),
+                                PreconditionIndex.usesType("double", false),
+                                PreconditionIndex.usesType("java.lang.Double", false),
+                                PreconditionIndex.usesType("float", false),
+                                PreconditionIndex.usesType("java.lang.Float", false)
                         )
                 ), new JavaIsoVisitor<ExecutionContext>() {
                     @Override
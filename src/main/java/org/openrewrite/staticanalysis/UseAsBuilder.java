@@ -22,7 +22,6 @@ import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.*;
 
 import java.util.*;
@@ -198,6 +197,6 @@ public class UseAsBuilder extends Recipe {
             }
         };
 
-        return builderCreator == null ? v : Preconditions.check(new UsesMethod<>(builderCreator), v);
+        return builderCreator == null ? v : Preconditions.check(PreconditionIndex.usesMethod(builderCreator), v);
     }
 }
@@ -23,7 +23,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.J;
 
 public class UseListSort extends Recipe {
@@ -37,7 +36,7 @@ public class UseListSort extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         final MethodMatcher collectionsSort = new MethodMatcher("java.util.Collections sort(..)");
-        return Preconditions.check(new UsesMethod<>(collectionsSort), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(PreconditionIndex.usesMethod(collectionsSort), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
@@ -31,7 +31,6 @@ import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.RandomizeIdVisitor;
 import org.openrewrite.java.VariableNameUtils;
 import org.openrewrite.java.search.SemanticallyEqual;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.service.ImportService;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
@@ -41,7 +40,6 @@ import org.openrewrite.java.tree.Space;
 import org.openrewrite.java.tree.Statement;
 import org.openrewrite.java.tree.TypeTree;
 import org.openrewrite.java.tree.TypeUtils;
-import org.openrewrite.staticanalysis.java.JavaFileChecker;
 import org.openrewrite.staticanalysis.table.MapKeySetIterations;
 
 import java.util.*;
@@ -84,7 +82,7 @@ public class UseMapEntrySetIteration extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                Preconditions.and(new JavaFileChecker<>(), new UsesMethod<>(KEY_SET)),
+                PreconditionIndex.usesMethod(KEY_SET, J.CompilationUnit.class),
                 new JavaIsoVisitor<ExecutionContext>() {
 
                     @Override
@@ -24,7 +24,6 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -60,12 +59,12 @@ public class UsePortableNewlines extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
                 Preconditions.or(
-                        new UsesMethod<>(STRING_FORMATTED),
-                        new UsesMethod<>(STRING_FORMAT),
-                        new UsesMethod<>(PRINT_STREAM_PRINTF),
-                        new UsesMethod<>(PRINT_WRITER_PRINTF),
-                        new UsesMethod<>(FORMATTER_FORMAT),
-                        new UsesMethod<>(CONSOLE_PRINTF)
+                        PreconditionIndex.usesMethod(STRING_FORMATTED),
+                        PreconditionIndex.usesMethod(STRING_FORMAT),
+                        PreconditionIndex.usesMethod(PRINT_STREAM_PRINTF),
+                        PreconditionIndex.usesMethod(PRINT_WRITER_PRINTF),
+                        PreconditionIndex.usesMethod(FORMATTER_FORMAT),
+                        PreconditionIndex.usesMethod(CONSOLE_PRINTF)
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
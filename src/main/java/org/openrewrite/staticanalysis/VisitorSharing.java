@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.openrewrite.Recipe;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares whether one instance of the visitor a recipe returns from {@link Recipe#getVisitor()} may visit source
+ * file after source file, or whether a new one is needed for each source file. Only the visitors that edit source
+ * files are covered, not the scanner of a {@link org.openrewrite.ScanningRecipe}: scanners add to an accumulator
+ * that is not synchronized and may depend on the order of the source files, so a new scanner is asked for every
+ * source file, and source files are scanned one at a time.
+ * <p>
+ * A visitor keeps its cursor in the instance, so no visitor may visit two source files at the same time. Workers
+ * that edit source files in parallel can keep one visitor of a {@link Mode#SHARED} recipe per thread, and must ask
+ * a {@link Mode#PER_SOURCE_FILE} recipe for a new visitor for every source file. Any recipe of this module may be
+ * asked for visitors from several threads at once, and the state its visitors share through the
+ * {@link org.openrewrite.ExecutionContext} is synchronized.
+ * <p>
+ * A recipe without the annotation takes that of its package, and {@link Mode#PER_SOURCE_FILE} when its package
+ * has none either.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.PACKAGE})
+public @interface VisitorSharing {
+
+    Mode value();
+
+    enum Mode {
+        /**
+         * The visitor keeps no state from one source file to the next.
+         */
+        SHARED,
+
+        /**
+         * The visitor keeps state from the first source file it visits, such as the style of that source file.
+         */
+        PER_SOURCE_FILE;
+
+        public static Mode of(Class<? extends Recipe> recipeClass) {
+            VisitorSharing sharing = recipeClass.getAnnotation(VisitorSharing.class);
+            if (sharing == null) {
+                sharing = recipeClass.getPackage().getAnnotation(VisitorSharing.class);
+            }
+            return sharing == null ? PER_SOURCE_FILE : sharing.value();
+        }
+    }
+}
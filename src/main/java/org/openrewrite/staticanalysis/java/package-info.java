@@ -14,6 +14,8 @@
  * limitations under the License.
  */
 @NullMarked
+@VisitorSharing(VisitorSharing.Mode.SHARED)
 package org.openrewrite.staticanalysis.java;
 
 import org.jspecify.annotations.NullMarked;
+import org.openrewrite.staticanalysis.VisitorSharing;
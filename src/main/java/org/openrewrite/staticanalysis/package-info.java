@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 @NullMarked
+@VisitorSharing(VisitorSharing.Mode.SHARED)
 package org.openrewrite.staticanalysis;
 
 import org.jspecify.annotations.NullMarked;
@@ -18,11 +18,10 @@ package org.openrewrite.staticanalysis.table;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import lombok.Value;
 import org.openrewrite.Column;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
 @JsonIgnoreType
-public class AnonymousFunctionalInterfaceImplementations extends DataTable<AnonymousFunctionalInterfaceImplementations.Row> {
+public class AnonymousFunctionalInterfaceImplementations extends SpillableDataTable<AnonymousFunctionalInterfaceImplementations.Row> {
 
     public AnonymousFunctionalInterfaceImplementations(Recipe recipe) {
         super(recipe,
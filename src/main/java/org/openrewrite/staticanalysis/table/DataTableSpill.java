@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis.table;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+
+import java.io.*;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Streams the rows of {@link SpillableDataTable spillable data tables} to append-only files on disk, so that the
+ * memory a run needs does not grow with the number of rows it records.
+ * <p>
+ * Each data table gets a directory named after the table, holding a {@code columns} file with the names of its
+ * columns and one file per column with the values of that column, in row order. Tables are told apart by
+ * instance, the way rows kept on the heap are, so two instances of a table with the same name, owned by
+ * different recipes, get directories of their own: the first is named after the table and later ones add a
+ * number to the name. Values are dictionary encoded
+ * per column: the first occurrence of a value is written out and numbered, and every later occurrence is
+ * written as that number only. Source paths and class names that recur in many rows are therefore stored once.
+ * Dictionaries hold at most {@link #MAX_DICTIONARY_ENTRIES} values per column, after which new values are
+ * written out in full every time, so memory stays bounded however many distinct values there are.
+ * <p>
+ * Spilling is enabled for a run with {@link #enable(ExecutionContext, Path)}, and the spill must be closed when
+ * the run is over. The rows can then be read back with {@link #read(Path, Consumer)}.
+ */
+public final class DataTableSpill implements Closeable {
+    private static final String SPILL_KEY = DataTableSpill.class.getName();
+    private static final String COLUMNS_FILE = "columns";
+    static final int MAX_DICTIONARY_ENTRIES = 1 << 16;
+
+    private static final int NULL = 0;
+    private static final int LITERAL = 1;
+    private static final int NEW_ENTRY = 2;
+    private static final int FIRST_ENTRY = 3;
+
+    private final Path directory;
+    private final Map<DataTable<?>, Path> directories = new IdentityHashMap<>();
+    private final Map<String, Integer> instancesByName = new HashMap<>();
+    private final Map<DataTable<?>, TableWriter> tables = new IdentityHashMap<>();
+
+    private DataTableSpill(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Streams the rows of spillable data tables inserted with this execution context to the directory.
+     */
+    public static DataTableSpill enable(ExecutionContext ctx, Path directory) {
+        DataTableSpill spill = new DataTableSpill(directory);
+        ctx.putMessage(SPILL_KEY, spill);
+        return spill;
+    }
+
+    static @Nullable DataTableSpill get(ExecutionContext ctx) {
+        return ctx.getMessage(SPILL_KEY);
+    }
+
+    /**
+     * @return The directory the rows of the data table are written to.
+     */
+    public Path directoryOf(DataTable<?> dataTable) {
+        synchronized (tables) {
+            return directories.computeIfAbsent(dataTable, t -> {
+                int instance = instancesByName.merge(t.getName(), 1, Integer::sum);
+                return directory.resolve(instance == 1 ? t.getName() : t.getName() + "-" + instance);
+            });
+        }
+    }
+
+    void write(DataTable<?> dataTable, Object row) {
+        TableWriter table;
+        synchronized (tables) {
+            table = tables.get(dataTable);
+            if (table == null) {
+                table = new TableWriter(directoryOf(dataTable), row.getClass());
+                tables.put(dataTable, table);
+            }
+        }
+        table.write(row);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (tables) {
+            for (TableWriter table : tables.values()) {
+                table.close();
+            }
+            tables.clear();
+        }
+    }
+
+    /**
+     * Reads back the rows of a data table, in the order they were written, as the values of their columns.
+     *
+     * @param tableDirectory The directory of the data table, see {@link #directoryOf(DataTable)}.
+     * @param rows           Receives each row in turn.
+     */
+    public static void read(Path tableDirectory, Consumer<List<@Nullable String>> rows) throws IOException {
+        List<String> columnNames = Files.readAllLines(tableDirectory.resolve(COLUMNS_FILE), UTF_8);
+        List<ColumnReader> columns = new ArrayList<>(columnNames.size());
+        try {
+            for (int i = 0; i < columnNames.size(); i++) {
+                columns.add(new ColumnReader(tableDirectory.resolve(i + ".col")));
+            }
+            while (!columns.isEmpty() && columns.get(0).hasNext()) {
+                List<@Nullable String> row = new ArrayList<>(columns.size());
+                for (ColumnReader column : columns) {
+                    row.add(column.next());
+                }
+                rows.accept(row);
+            }
+        } finally {
+            for (ColumnReader column : columns) {
+                column.in.close();
+            }
+        }
+    }
+
+    private static class TableWriter {
+        private final List<Field> fields = new ArrayList<>();
+        private final List<ColumnWriter> columns = new ArrayList<>();
+
+        TableWriter(Path tableDirectory, Class<?> rowType) {
+            try {
+                Files.createDirectories(tableDirectory);
+                List<String> columnNames = new ArrayList<>();
+                for (Field field : rowType.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(Column.class)) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                        columnNames.add(field.getName());
+                        columns.add(new ColumnWriter(tableDirectory.resolve(columns.size() + ".col")));
+                    }
+                }
+                Files.write(tableDirectory.resolve(COLUMNS_FILE), columnNames, UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        synchronized void write(Object row) {
+            try {
+                for (int i = 0; i < fields.size(); i++) {
+                    Object value = fields.get(i).get(row);
+                    columns.get(i).write(value == null ? null : value.toString());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        synchronized void close() throws IOException {
+            for (ColumnWriter column : columns) {
+                column.out.close();
+            }
+        }
+    }
+
+    private static class ColumnWriter {
+        private final DataOutputStream out;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+
+        ColumnWriter(Path file) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        }
+
+        void write(@Nullable String value) throws IOException {
+            if (value == null) {
+                writeVarInt(NULL);
+                return;
+            }
+            Integer entry = dictionary.get(value);
+            if (entry != null) {
+                writeVarInt(FIRST_ENTRY + entry);
+            } else if (dictionary.size() < MAX_DICTIONARY_ENTRIES) {
+                dictionary.put(value, dictionary.size());
+                writeVarInt(NEW_ENTRY);
+                writeString(value);
+            } else {
+                writeVarInt(LITERAL);
+                writeString(value);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+    }
+
+    private static class ColumnReader {
+        private final DataInputStream in;
+        private final List<String> dictionary = new ArrayList<>();
+        private int next = -1;
+
+        ColumnReader(Path file) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        }
+
+        boolean hasNext() throws IOException {
+            if (next < 0) {
+                next = in.read();
+            }
+            return next >= 0;
+        }
+
+        @Nullable
+        String next() throws IOException {
+            if (!hasNext()) {
+                throw new EOFException("Column has fewer values than the table has rows");
+            }
+            int firstByte = next;
+            next = -1;
+            int tag = readVarInt(firstByte);
+            if (tag == NULL) {
+                return null;
+            } else if (tag == LITERAL) {
+                return readString();
+            } else if (tag == NEW_ENTRY) {
+                String value = readString();
+                dictionary.add(value);
+                return value;
+            }
+            return dictionary.get(tag - FIRST_ENTRY);
+        }
+
+        private String readString() throws IOException {
+            byte[] bytes = new byte[readVarInt(in.readUnsignedByte())];
+            in.readFully(bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        private int readVarInt(int firstByte) throws IOException {
+            int value = firstByte & 0x7F;
+            int shift = 7;
+            int b = firstByte;
+            while ((b & 0x80) != 0) {
+                b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            }
+            return value;
+        }
+    }
+}
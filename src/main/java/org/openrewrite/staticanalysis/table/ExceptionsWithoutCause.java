@@ -18,11 +18,10 @@ package org.openrewrite.staticanalysis.table;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import lombok.Value;
 import org.openrewrite.Column;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
 @JsonIgnoreType
-public class ExceptionsWithoutCause extends DataTable<ExceptionsWithoutCause.Row> {
+public class ExceptionsWithoutCause extends SpillableDataTable<ExceptionsWithoutCause.Row> {
 
     public ExceptionsWithoutCause(Recipe recipe) {
         super(recipe,
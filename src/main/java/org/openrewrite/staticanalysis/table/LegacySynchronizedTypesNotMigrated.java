@@ -18,11 +18,10 @@ package org.openrewrite.staticanalysis.table;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import lombok.Value;
 import org.openrewrite.Column;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
 @JsonIgnoreType
-public class LegacySynchronizedTypesNotMigrated extends DataTable<LegacySynchronizedTypesNotMigrated.Row> {
+public class LegacySynchronizedTypesNotMigrated extends SpillableDataTable<LegacySynchronizedTypesNotMigrated.Row> {
 
     public LegacySynchronizedTypesNotMigrated(Recipe recipe) {
         super(recipe,
@@ -18,11 +18,10 @@ package org.openrewrite.staticanalysis.table;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import lombok.Value;
 import org.openrewrite.Column;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
 @JsonIgnoreType
-public class MapKeySetIterations extends DataTable<MapKeySetIterations.Row> {
+public class MapKeySetIterations extends SpillableDataTable<MapKeySetIterations.Row> {
 
     public MapKeySetIterations(Recipe recipe) {
         super(recipe,
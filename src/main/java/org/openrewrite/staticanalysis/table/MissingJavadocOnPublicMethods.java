@@ -18,11 +18,10 @@ package org.openrewrite.staticanalysis.table;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import lombok.Value;
 import org.openrewrite.Column;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
 @JsonIgnoreType
-public class MissingJavadocOnPublicMethods extends DataTable<MissingJavadocOnPublicMethods.Row> {
+public class MissingJavadocOnPublicMethods extends SpillableDataTable<MissingJavadocOnPublicMethods.Row> {
 
     public MissingJavadocOnPublicMethods(Recipe recipe) {
         super(recipe,
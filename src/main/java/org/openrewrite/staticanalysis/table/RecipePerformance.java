@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class RecipePerformance extends DataTable<RecipePerformance.Row> {
+
+    public RecipePerformance(Recipe recipe) {
+        super(recipe,
+                "Recipe performance",
+                "The time each recipe of a profiled recipe spent visiting source files, and the source files it " +
+                        "was slowest on.");
+    }
+
+    /**
+     * Rows summarize the whole run and are only inserted once it is complete, after the first cycle.
+     */
+    @Override
+    protected boolean allowWritingInThisCycle(ExecutionContext ctx) {
+        return true;
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The name of the recipe.")
+        String recipe;
+
+        @Column(displayName = "Source files",
+                description = "The number of source files the recipe's visitors ran on, over all cycles.")
+        int sourceFiles;
+
+        @Column(displayName = "Trees changed",
+                description = "The number of times the recipe's visitor changed a source file.")
+        int treesChanged;
+
+        @Column(displayName = "Wall time (ms)",
+                description = "The total wall time the recipe's visitors spent on source files.")
+        long wallTimeMs;
+
+        @Column(displayName = "Slowest source files",
+                description = "The source files the recipe's visitors took longest on, slowest first, each with " +
+                        "its wall time and its size in tree nodes. Only these source files are measured, so that " +
+                        "profiling does not walk every source file once more.")
+        String slowestSourceFiles;
+    }
+}
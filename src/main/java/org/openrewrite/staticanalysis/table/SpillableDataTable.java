@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis.table;
+
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+/**
+ * A data table whose rows are streamed to disk by a {@link DataTableSpill} when one is enabled on the
+ * {@link ExecutionContext}, instead of being held on the heap for the whole run.
+ */
+public abstract class SpillableDataTable<Row> extends DataTable<Row> {
+
+    protected SpillableDataTable(Recipe recipe, String displayName, String description) {
+        super(recipe, displayName, description);
+    }
+
+    @Override
+    public void insertRow(ExecutionContext ctx, Row row) {
+        DataTableSpill spill = DataTableSpill.get(ctx);
+        if (spill == null) {
+            super.insertRow(ctx, row);
+        } else if (allowWritingInThisCycle(ctx)) {
+            // Like rows kept on the heap, only rows of the cycles the table allows are recorded
+            spill.write(this, row);
+        }
+    }
+}
@@ -624,6 +624,85 @@ class AnnotateNullableMethodsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void propagateThroughMutuallyRecursiveMethods() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class Test {
+
+                  public String odd(int n) {
+                      return n == 0 ? "no" : even(n - 1);
+                  }
+
+                  public String even(int n) {
+                      if (n < 0) {
+                          return null;
+                      }
+                      return n == 0 ? "yes" : odd(n - 1);
+                  }
+
+                  public String caller(int n) {
+                      return odd(n);
+                  }
+
+                  public String neverNull(int n) {
+                      return n == 0 ? "zero" : neverNull(n - 1);
+                  }
+
+              }
+              """,
+            """
+              import org.jspecify.annotations.Nullable;
+
+              public class Test {
+
+                  public @Nullable String odd(int n) {
+                      return n == 0 ? "no" : even(n - 1);
+                  }
+
+                  public @Nullable String even(int n) {
+                      if (n < 0) {
+                          return null;
+                      }
+                      return n == 0 ? "yes" : odd(n - 1);
+                  }
+
+                  public @Nullable String caller(int n) {
+                      return odd(n);
+                  }
+
+                  public String neverNull(int n) {
+                      return n == 0 ? "zero" : neverNull(n - 1);
+                  }
+
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void propagateThroughCallChainDeeperThanTheThreadStack() {
+        int depth = 10_000;
+        StringBuilder before = new StringBuilder("public class Test {\n");
+        StringBuilder after = new StringBuilder("import javax.annotation.CheckForNull;\n\npublic class Test {\n");
+        // Callers are declared before their callees, so the call graph is walked from the top of the chain
+        for (int i = depth; i > 0; i--) {
+            String body = "String m" + i + "() {\n        return m" + (i - 1) + "();\n    }\n";
+            before.append("    public ").append(body);
+            after.append("    @CheckForNull\n    public ").append(body);
+        }
+        before.append("    public String m0() {\n        return null;\n    }\n}\n");
+        after.append("    @CheckForNull\n    public String m0() {\n        return null;\n    }\n}\n");
+        rewriteRun(
+          // A declaration annotation, so that each method is annotated without another pass over the file
+          spec -> spec.recipe(new AnnotateNullableMethods("javax.annotation.CheckForNull")),
+          java(before.toString(), after.toString())
+        );
+    }
+
     @Test
     void methodReturnsNullableArray() {
         rewriteRun(
@@ -565,4 +565,215 @@ class CombineSemanticallyEqualCatchBlocksTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void blocksWithDifferentCommentsAfterArguments() {
+        rewriteRun(
+          //language=java
+          java("class A extends RuntimeException {}"),
+          //language=java
+          java("class B extends RuntimeException {}"),
+          //language=java
+          java(
+            """
+              class Test {
+                  void method() {
+                      try {
+                      } catch (A ex) {
+                          log("a" /* first */, "b");
+                      } catch (B ex) {
+                          log("a" /* second */, "b");
+                      }
+                  }
+
+                  void log(String a, String b) {}
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void blocksWithDifferentCommentsBeforeArguments() {
+        rewriteRun(
+          //language=java
+          java("class A extends RuntimeException {}"),
+          //language=java
+          java("class B extends RuntimeException {}"),
+          //language=java
+          java(
+            """
+              class Test {
+                  void method() {
+                      try {
+                      } catch (A ex) {
+                          log /* first */ ("a", "b");
+                      } catch (B ex) {
+                          log /* second */ ("a", "b");
+                      }
+                  }
+
+                  void log(String a, String b) {}
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void blocksWithSameCommentsAfterArguments() {
+        rewriteRun(
+          //language=java
+          java("class A extends RuntimeException {}"),
+          //language=java
+          java("class B extends RuntimeException {}"),
+          //language=java
+          java(
+            """
+              class Test {
+                  void method() {
+                      try {
+                      } catch (A ex) {
+                          log("a" /* same */, "b");
+                      } catch (B ex) {
+                          log("a" /* same */, "b");
+                      }
+                  }
+
+                  void log(String a, String b) {}
+              }
+              """,
+            """
+              class Test {
+                  void method() {
+                      try {
+                      } catch (A | B ex) {
+                          log("a" /* same */, "b");
+                      }
+                  }
+
+                  void log(String a, String b) {}
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void blocksWithDifferentCommentsOnNestedStatement() {
+        rewriteRun(
+          //language=java
+          java("class A extends RuntimeException {}"),
+          //language=java
+          java("class B extends RuntimeException {}"),
+          //language=java
+          java(
+            """
+              class Test {
+                  void method(boolean b) {
+                      try {
+                      } catch (A ex) {
+                          if (b) {
+                              // first
+                              log();
+                          }
+                      } catch (B ex) {
+                          if (b) {
+                              // second
+                              log();
+                          }
+                      }
+                  }
+
+                  void log() {}
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void blocksWithSameCommentOnDifferentStatements() {
+        rewriteRun(
+          //language=java
+          java("class A extends RuntimeException {}"),
+          //language=java
+          java("class B extends RuntimeException {}"),
+          //language=java
+          java(
+            """
+              class Test {
+                  void method() {
+                      try {
+                      } catch (A ex) {
+                          // same
+                          log();
+                          log();
+                      } catch (B ex) {
+                          log();
+                          // same
+                          log();
+                      }
+                  }
+
+                  void log() {}
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void blocksWithDifferentJavadocComments() {
+        rewriteRun(
+          //language=java
+          java("class A extends RuntimeException {}"),
+          //language=java
+          java("class B extends RuntimeException {}"),
+          //language=java
+          java(
+            """
+              class Test {
+                  void method() {
+                      try {
+                      } catch (A ex) {
+                          /** first */
+                          int i = 0;
+                      } catch (B ex) {
+                          /** second */
+                          int i = 0;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void blocksWithLiteralsOfDifferentClasses() {
+        rewriteRun(
+          //language=java
+          java("class A extends RuntimeException {}"),
+          //language=java
+          java("class B extends RuntimeException {}"),
+          //language=java
+          java(
+            """
+              class Test {
+                  void method() {
+                      try {
+                      } catch (A ex) {
+                          log(1);
+                      } catch (B ex) {
+                          log(1L);
+                      }
+                  }
+
+                  void log(long l) {}
+              }
+              """
+          )
+        );
+    }
 }
@@ -546,4 +546,45 @@ class FinalizeLocalVariablesTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void reassignedShadowingLocalDoesNotAffectOuterLocal() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  Runnable method() {
+                      int count = 0;
+                      System.out.println(count);
+                      return new Runnable() {
+                          @Override
+                          public void run() {
+                              int count = 1;
+                              count++;
+                              System.out.println(count);
+                          }
+                      };
+                  }
+              }
+              """,
+            """
+              class Test {
+                  Runnable method() {
+                      final int count = 0;
+                      System.out.println(count);
+                      return new Runnable() {
+                          @Override
+                          public void run() {
+                              int count = 1;
+                              count++;
+                              System.out.println(count);
+                          }
+                      };
+                  }
+              }
+              """
+          )
+        );
+    }
 }
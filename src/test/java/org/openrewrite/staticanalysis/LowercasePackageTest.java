@@ -18,6 +18,7 @@ package org.openrewrite.staticanalysis;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.PathUtils;
+import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
@@ -53,6 +54,112 @@ class LowercasePackageTest implements RewriteTest {
         );
     }
 
+    @Test
+    void renameNestedPackagesAndReferences() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              package com.Outer;
+              public class A {}
+              """,
+            """
+              package com.outer;
+              public class A {}
+              """
+          ),
+          java(
+            //language=java
+            """
+              package com.Outer.Inner;
+              public class B {}
+              """,
+            """
+              package com.outer.inner;
+              public class B {}
+              """
+          ),
+          java(
+            //language=java
+            """
+              package com.lowercase;
+
+              import com.Outer.A;
+              import com.Outer.Inner.B;
+
+              class C {
+                  A a;
+                  B b;
+              }
+              """,
+            """
+              package com.lowercase;
+
+              import com.outer.A;
+              import com.outer.inner.B;
+
+              class C {
+                  A a;
+                  B b;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void renameFullyQualifiedReferencesStaticImportsAndTypes() {
+        rewriteRun(
+          java(
+            //language=java
+            """
+              package com.Outer;
+              public class A {
+                  public static int count() {
+                      return 0;
+                  }
+              }
+              """,
+            """
+              package com.outer;
+              public class A {
+                  public static int count() {
+                      return 0;
+                  }
+              }
+              """
+          ),
+          java(
+            //language=java
+            """
+              package com.lowercase;
+
+              import static com.Outer.A.count;
+
+              class C {
+                  com.Outer.A a;
+                  int n = count();
+              }
+              """,
+            """
+              package com.lowercase;
+
+              import static com.outer.A.count;
+
+              class C {
+                  com.outer.A a;
+                  int n = count();
+              }
+              """,
+            spec -> spec.afterRecipe(cu -> assertThat(cu.getTypesInUse().getTypesInUse())
+              .filteredOn(JavaType.FullyQualified.class::isInstance)
+              .extracting(type -> ((JavaType.FullyQualified) type).getFullyQualifiedName())
+              .contains("com.outer.A")
+              .doesNotContain("com.Outer.A"))
+          )
+        );
+    }
+
     @Test
     void noChange() {
         rewriteRun(
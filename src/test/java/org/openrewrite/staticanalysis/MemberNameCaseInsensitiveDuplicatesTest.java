@@ -257,4 +257,75 @@ class MemberNameCaseInsensitiveDuplicatesTest implements RewriteTest {
             )
         );
     }
+
+    @Test
+    void siblingsInheritingFromTheSameDeepHierarchy() {
+        rewriteRun(
+            //language=java
+            java(
+                """
+                interface Named {
+                    String getName();
+                }
+                """
+            ),
+            //language=java
+            java(
+                """
+                abstract class Base implements Named {
+                    protected int id;
+                }
+                """
+            ),
+            //language=java
+            java(
+                """
+                abstract class Middle extends Base {
+                }
+                """
+            ),
+            //language=java
+            java(
+                """
+                class First extends Middle {
+                    public String getName() {
+                        return "first";
+                    }
+                    int ID;
+                }
+                """,
+                """
+                class First extends Middle {
+                    public String getName() {
+                        return "first";
+                    }
+                    int /*~~(Rename this member to not match other members differing only by capitalization)~~>*/ID;
+                }
+                """
+            ),
+            //language=java
+            java(
+                """
+                class Second extends Middle {
+                    public String getName() {
+                        return "second";
+                    }
+                    String getname() {
+                        return "second";
+                    }
+                }
+                """,
+                """
+                class Second extends Middle {
+                    public String getName() {
+                        return "second";
+                    }
+                    String /*~~(Rename this member to not match other members differing only by capitalization)~~>*/getname() {
+                        return "second";
+                    }
+                }
+                """
+            )
+        );
+    }
 }
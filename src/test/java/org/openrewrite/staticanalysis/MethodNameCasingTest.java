@@ -291,6 +291,196 @@ class MethodNameCasingTest implements RewriteTest {
         );
     }
 
+    @Test
+    void changeInvocationsOfSeveralMethodsAndOverloads() {
+        rewriteRun(
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package p;
+                class Test {
+                    static void Do_it() {
+                    }
+                    static void Do_it(int i) {
+                    }
+                    void Other_Method() {
+                    }
+                }
+                """,
+              """
+                package p;
+                class Test {
+                    static void doIt() {
+                    }
+                    static void doIt(int i) {
+                    }
+                    void otherMethod() {
+                    }
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package p;
+                import java.util.function.Consumer;
+                class A {
+                    void test() {
+                        Test.Do_it();
+                        Consumer<Test> c = Test::Other_Method;
+                    }
+                }
+                """,
+              """
+                package p;
+                import java.util.function.Consumer;
+                class A {
+                    void test() {
+                        Test.doIt();
+                        Consumer<Test> c = Test::otherMethod;
+                    }
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package p;
+                class Untouched {
+                    void test() {
+                        System.out.println();
+                    }
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void renameStaticImportOfOverloadsRenamedAlike() {
+        rewriteRun(
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package p;
+                class Util {
+                    static int Twice(int i) {
+                        return 2 * i;
+                    }
+                    static String Twice(String s) {
+                        return s + s;
+                    }
+                }
+                """,
+              """
+                package p;
+                class Util {
+                    static int twice(int i) {
+                        return 2 * i;
+                    }
+                    static String twice(String s) {
+                        return s + s;
+                    }
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package p;
+
+                import static p.Util.Twice;
+
+                class Test {
+                    String test() {
+                        return Twice(1) + Twice("a");
+                    }
+                }
+                """,
+              """
+                package p;
+
+                import static p.Util.twice;
+
+                class Test {
+                    String test() {
+                        return twice(1) + twice("a");
+                    }
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void keepStaticImportOfOverloadThatKeepsItsName() {
+        rewriteRun(
+          srcMainJava(
+            //language=java
+            java(
+              """
+                package p;
+                class Util {
+                    static int Twice(int i) {
+                        return 2 * i;
+                    }
+                    static String Twice(String s) {
+                        return s + s;
+                    }
+                    static String twice(String s) {
+                        return s + s;
+                    }
+                }
+                """,
+              """
+                package p;
+                class Util {
+                    static int twice(int i) {
+                        return 2 * i;
+                    }
+                    static String Twice(String s) {
+                        return s + s;
+                    }
+                    static String twice(String s) {
+                        return s + s;
+                    }
+                }
+                """
+            ),
+            //language=java
+            java(
+              """
+                package p;
+
+                import static p.Util.Twice;
+
+                class Test {
+                    String test() {
+                        return Twice(1) + Twice("a");
+                    }
+                }
+                """,
+              """
+                package p;
+
+                import static p.Util.Twice;
+                import static p.Util.twice;
+
+                class Test {
+                    String test() {
+                        return twice(1) + Twice("a");
+                    }
+                }
+                """
+            )
+          )
+        );
+    }
+
     @Test
     void dontChangeCorrectlyCasedMethods() {
         rewriteRun(
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.kotlin.tree.K;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreconditionIndexTest {
+
+    //language=java
+    private static final String DURATIONS = """
+      import java.time.Duration;
+      import java.util.ArrayList;
+      import java.util.List;
+
+      class Test {
+          static class Names extends ArrayList<String> {
+          }
+
+          Duration timeout(long seconds) {
+              new Names().add("timeout");
+              return Duration.ofSeconds(seconds);
+          }
+
+          int count(List<String> names) {
+              return names.size();
+          }
+      }
+      """;
+
+    @Test
+    void wildcardMethodPatterns() {
+        SourceFile sourceFile = parse(DURATIONS);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.time.Duration of*(long)"), true);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.time.Duration *(..)"), true);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.time.Duration of*(int)"), false);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.time.Duration to*(..)"), false);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.time.* of*(..)"), true);
+    }
+
+    @Test
+    void matchOverridesMethodPatterns() {
+        SourceFile sourceFile = parse(DURATIONS);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.util.List add(..)", true), true);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.util.List add(..)", false), false);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.util.Collection size()", true), true);
+        assertUsesMethod(sourceFile, new MethodMatcher("java.util.Collection size()", false), false);
+    }
+
+    @Test
+    void typePatterns() {
+        SourceFile sourceFile = parse(DURATIONS);
+        assertUsesType(sourceFile, "java.time.Duration", false, true);
+        assertUsesType(sourceFile, "java.time.*", false, true);
+        assertUsesType(sourceFile, "java..*", false, true);
+        assertUsesType(sourceFile, "long", false, true);
+        assertUsesType(sourceFile, "java.util.Collection", false, false);
+        assertUsesType(sourceFile, "java.util.Collection", true, true);
+        assertUsesType(sourceFile, "java.util.Map", true, false);
+        assertUsesType(sourceFile, "java.time.Instant", null, false);
+    }
+
+    @Test
+    void languageIsCheckedBeforeTheIndex() {
+        SourceFile sourceFile = parse(DURATIONS);
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        assertThat(found(PreconditionIndex.usesType("java.time.Duration", false, J.CompilationUnit.class), sourceFile, ctx)).isTrue();
+        assertThat(found(PreconditionIndex.usesType("java.time.Duration", false, K.CompilationUnit.class), sourceFile, ctx)).isFalse();
+        assertThat(found(PreconditionIndex.usesMethod(new MethodMatcher("java.time.Duration of*(long)"), K.CompilationUnit.class), sourceFile, ctx)).isFalse();
+    }
+
+    @Test
+    void fileChangedBetweenCyclesIsIndexedAnew() {
+        SourceFile before = parse(DURATIONS);
+        //language=java
+        SourceFile after = parse(
+          """
+            import java.time.Instant;
+
+            class Test {
+                Instant now() {
+                    return Instant.now();
+                }
+            }
+            """
+        ).withId(before.getId());
+
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        TreeVisitor<?, ExecutionContext> usesDurationOf = PreconditionIndex.usesMethod("java.time.Duration of*(long)");
+        TreeVisitor<?, ExecutionContext> usesInstant = PreconditionIndex.usesType("java.time.Instant", false);
+        assertThat(found(usesDurationOf, before, ctx)).isTrue();
+        assertThat(found(usesInstant, before, ctx)).isFalse();
+
+        assertThat(found(usesDurationOf, after, ctx)).isFalse();
+        assertThat(found(usesInstant, after, ctx)).isTrue();
+    }
+
+    /**
+     * The index must give the same answer as the precondition it replaces.
+     */
+    private static void assertUsesMethod(SourceFile sourceFile, MethodMatcher methodMatcher, boolean expected) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        assertThat(found(new UsesMethod<>(methodMatcher), sourceFile, ctx)).isEqualTo(expected);
+        assertThat(found(PreconditionIndex.usesMethod(methodMatcher), sourceFile, ctx)).isEqualTo(expected);
+    }
+
+    private static void assertUsesType(SourceFile sourceFile, String fullyQualifiedType, Boolean includeImplicit, boolean expected) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        assertThat(found(new UsesType<>(fullyQualifiedType, includeImplicit), sourceFile, ctx)).isEqualTo(expected);
+        assertThat(found(PreconditionIndex.usesType(fullyQualifiedType, includeImplicit), sourceFile, ctx)).isEqualTo(expected);
+    }
+
+    private static boolean found(TreeVisitor<?, ExecutionContext> precondition, SourceFile sourceFile, ExecutionContext ctx) {
+        return precondition.visit(sourceFile, ctx) != sourceFile;
+    }
+
+    private static SourceFile parse(String source) {
+        return JavaParser.fromJavaVersion().build().parse(source).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Recipe;
+import org.openrewrite.config.Environment;
+import org.openrewrite.staticanalysis.table.RecipePerformance;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class RecipePerformanceProfilerTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(RecipePerformanceProfiler.profile(new ExplicitInitialization()));
+    }
+
+    @Test
+    void recordsPerformanceOfProfiledRecipe() {
+        rewriteRun(
+          spec -> spec.dataTable(RecipePerformance.Row.class, rows -> {
+              assertThat(rows).hasSize(1);
+              RecipePerformance.Row row = rows.getFirst();
+              assertThat(row.getRecipe()).isEqualTo(ExplicitInitialization.class.getName());
+              assertThat(row.getSourceFiles()).isPositive();
+              assertThat(row.getTreesChanged()).isEqualTo(1);
+              assertThat(row.getSlowestSourceFiles()).startsWith("A.java (");
+          }),
+          //language=java
+          java(
+            """
+              class A {
+                  private int a = 0;
+              }
+              """,
+            """
+              class A {
+                  private int a;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void profileRecipeNamedByOption() {
+        rewriteRun(
+          spec -> spec.recipe(new RecipePerformanceProfiler("org.openrewrite.staticanalysis.ExplicitInitialization"))
+            .dataTable(RecipePerformance.Row.class, rows -> {
+                assertThat(rows).hasSize(1);
+                RecipePerformance.Row row = rows.getFirst();
+                assertThat(row.getRecipe()).isEqualTo(ExplicitInitialization.class.getName());
+                assertThat(row.getTreesChanged()).isEqualTo(1);
+                assertThat(row.getSlowestSourceFiles()).contains(" nodes)");
+            }),
+          //language=java
+          java(
+            """
+              class A {
+                  private int a = 0;
+              }
+              """,
+            """
+              class A {
+                  private int a;
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void profiledRecipesKeepOptionsDataTablesAndCycles() {
+        Recipe withOptions = new RemoveUnusedLocalVariables(null, "java.lang.String", null);
+        Recipe withDataTable = new FindMissingJavadocOnPublicMethods();
+        Recipe singleCycle = new Recipe() {
+            @Override
+            public String getDisplayName() {
+                return "Single cycle";
+            }
+
+            @Override
+            public String getDescription() {
+                return "Runs in the first cycle only.";
+            }
+
+            @Override
+            public int maxCycles() {
+                return 1;
+            }
+        };
+        for (Recipe recipe : new Recipe[]{withOptions, withDataTable, singleCycle}) {
+            Recipe profiled = RecipePerformanceProfiler.profile(recipe).getRecipeList().getFirst();
+            assertThat(profiled.getName()).isEqualTo(recipe.getName());
+            assertThat(profiled.getInstanceName()).isEqualTo(recipe.getInstanceName());
+            assertThat(profiled.getDescriptor()).isEqualTo(recipe.getDescriptor());
+            assertThat(profiled.getDataTableDescriptors()).isEqualTo(recipe.getDataTableDescriptors());
+            assertThat(profiled.maxCycles()).isEqualTo(recipe.maxCycles());
+        }
+    }
+
+    @Test
+    void unconfiguredProfilerCanBeListedAndDescribed() {
+        Recipe profiler = Environment.builder()
+          .scanRuntimeClasspath("org.openrewrite.staticanalysis")
+          .build()
+          .listRecipes()
+          .stream()
+          .filter(RecipePerformanceProfiler.class::isInstance)
+          .findFirst()
+          .orElseThrow();
+        assertThat(profiler.getRecipeList()).isEmpty();
+        assertThat(profiler.getDescriptor().getOptions())
+          .singleElement()
+          .satisfies(option -> assertThat(option.isRequired()).isTrue());
+        assertThat(profiler.validate().isValid()).isFalse();
+    }
+}
@@ -106,6 +106,47 @@ class RemoveDuplicateConditionsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void removeAllDuplicatesInOnePass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  void test(int x) {
+                      if (x > 0) {
+                          System.out.println("first");
+                      } else if (x > 0) {
+                          System.out.println("duplicate");
+                      } else if (x < 0) {
+                          System.out.println("second");
+                      } else if (x < 0) {
+                          System.out.println("duplicate");
+                      } else if (x > 0) {
+                          System.out.println("duplicate");
+                      } else {
+                          System.out.println("default");
+                      }
+                  }
+              }
+              """,
+            """
+              class Test {
+                  void test(int x) {
+                      if (x > 0) {
+                          System.out.println("first");
+                      } else if (x < 0) {
+                          System.out.println("second");
+                      } else {
+                          System.out.println("default");
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void removeDuplicateWithoutFinalElse() {
         rewriteRun(
@@ -289,6 +330,45 @@ class RemoveDuplicateConditionsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void removeDuplicateWithPureMethodCalls() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  private static boolean isShort(String s) {
+                      int length = s.length();
+                      return length < 3;
+                  }
+
+                  void test(String s) {
+                      if (isShort(s) || s.isEmpty()) {
+                          System.out.println("short");
+                      } else if (isShort(s) || s.isEmpty()) {
+                          System.out.println("also short");
+                      }
+                  }
+              }
+              """,
+            """
+              class Test {
+                  private static boolean isShort(String s) {
+                      int length = s.length();
+                      return length < 3;
+                  }
+
+                  void test(String s) {
+                      if (isShort(s) || s.isEmpty()) {
+                          System.out.println("short");
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Issue("https://github.com/openrewrite/rewrite-static-analysis/issues/953")
     @Test
     void doNotChangeWhenConditionHasSideEffects() {
@@ -319,6 +399,116 @@ class RemoveDuplicateConditionsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void doNotChangeWhenLocalMethodWritesField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  private boolean seen;
+
+                  private boolean firstTime() {
+                      boolean first = !seen;
+                      seen = true;
+                      return first;
+                  }
+
+                  void test() {
+                      if (firstTime()) {
+                          System.out.println("first");
+                      } else if (firstTime()) {
+                          System.out.println("again");
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotChangeWhenPureLookingHelperCallsImpureMethod() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  private int calls;
+
+                  private boolean isSecondCall() {
+                      return count() == 2;
+                  }
+
+                  private int count() {
+                      return ++calls;
+                  }
+
+                  void test() {
+                      if (isSecondCall()) {
+                          System.out.println("second");
+                      } else if (isSecondCall()) {
+                          System.out.println("third");
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotChangeWhenMethodMayBeOverridden() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  boolean isReady(int x) {
+                      return x > 0;
+                  }
+
+                  void test(int x) {
+                      if (isReady(x)) {
+                          System.out.println("ready");
+                      } else if (isReady(x)) {
+                          System.out.println("still ready");
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotChangeWhenMethodIsRecursive() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  private static boolean isEven(int n) {
+                      return n == 0 || isOdd(n - 1);
+                  }
+
+                  private static boolean isOdd(int n) {
+                      return n != 0 && isEven(n - 1);
+                  }
+
+                  void test(int n) {
+                      if (isEven(n)) {
+                          System.out.println("even");
+                      } else if (isEven(n)) {
+                          System.out.println("even again");
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void removeDuplicateElseIfGo() {
         rewriteRun(
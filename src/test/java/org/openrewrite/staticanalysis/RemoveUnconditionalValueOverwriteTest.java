@@ -288,6 +288,27 @@ class RemoveUnconditionalValueOverwriteTest implements RewriteTest {
         );
     }
 
+    @Test
+    void doNotChangeWhenOverwrittenValueMayThrow() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.HashMap;
+              import java.util.Map;
+
+              class Test {
+                  void test(String k, String s) {
+                      Map<String, Integer> map = new HashMap<>();
+                      map.put(k, Integer.valueOf(s));
+                      map.put(k, 0);
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Issue("https://github.com/openrewrite/rewrite-static-analysis/issues/953")
     @Test
     void doNotChangeWhenKeyHasSideEffects() {
@@ -1299,6 +1299,152 @@ class RemoveUnusedLocalVariablesTest implements RewriteTest {
         );
     }
 
+    @Test
+    void readOfShadowingLocalDoesNotKeepOuterLocal() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  Runnable method() {
+                      int count = 0;
+                      return new Runnable() {
+                          @Override
+                          public void run() {
+                              int count = 1;
+                              System.out.println(count);
+                          }
+                      };
+                  }
+              }
+              """,
+            """
+              class Test {
+                  Runnable method() {
+                      return new Runnable() {
+                          @Override
+                          public void run() {
+                              int count = 1;
+                              System.out.println(count);
+                          }
+                      };
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void readOfShadowingPatternVariableDoesNotKeepOuterLocal() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  Runnable method(Object o) {
+                      int s = 0;
+                      return new Runnable() {
+                          @Override
+                          public void run() {
+                              if (o instanceof String s) {
+                                  System.out.println(s);
+                              }
+                          }
+                      };
+                  }
+              }
+              """,
+            """
+              class Test {
+                  Runnable method(Object o) {
+                      return new Runnable() {
+                          @Override
+                          public void run() {
+                              if (o instanceof String s) {
+                                  System.out.println(s);
+                              }
+                          }
+                      };
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void labelDoesNotKeepLocalOfSameName() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  void method(int[] xs) {
+                      int outer = 0;
+                      outer:
+                      for (int x : xs) {
+                          for (int y : xs) {
+                              if (x == y) {
+                                  continue outer;
+                              }
+                              if (x > y) {
+                                  break outer;
+                              }
+                          }
+                      }
+                  }
+              }
+              """,
+            """
+              class Test {
+                  void method(int[] xs) {
+                      outer:
+                      for (int x : xs) {
+                          for (int y : xs) {
+                              if (x == y) {
+                                  continue outer;
+                              }
+                              if (x > y) {
+                                  break outer;
+                              }
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void readOfFieldDoesNotKeepLocalOfSameName() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  int count;
+
+                  int method(Test other) {
+                      int count = 0;
+                      return other.count;
+                  }
+              }
+              """,
+            """
+              class Test {
+                  int count;
+
+                  int method(Test other) {
+                      return other.count;
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Nested
     class Kotlin {
 
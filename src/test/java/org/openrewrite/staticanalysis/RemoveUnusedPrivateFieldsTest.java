@@ -495,6 +495,52 @@ class RemoveUnusedPrivateFieldsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void removeFieldsOnlyUsedByUnusedFieldsOfNestedClass() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  private String a = "a";
+                  private String ab = a + "b";
+
+                  static class Inner {
+                      private String abc = new Test().ab + "c";
+                  }
+              }
+              """,
+            """
+              class Test {
+
+                  static class Inner {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void doNotRemoveFieldsThatOnlyUseEachOther() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  private Object a = new Object() {
+                      @Override
+                      public String toString() {
+                          return String.valueOf(b);
+                      }
+                  };
+                  private Object b = a;
+              }
+              """
+          )
+        );
+    }
+
     @Issue("https://github.com/openrewrite/rewrite-static-analysis/issues/524")
     @Test
     void doNotRemoveWhenThereAreMissingTypes() {
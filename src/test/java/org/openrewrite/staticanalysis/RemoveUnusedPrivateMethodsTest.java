@@ -104,6 +104,50 @@ class RemoveUnusedPrivateMethodsTest implements RewriteTest {
     }
 
     @SuppressWarnings("MissingSerialAnnotation")
+    @Test
+    void removeUnusedRecursivePrivateMethods() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  private int factorial(int n) {
+                      return n <= 1 ? 1 : n * factorial(n - 1);
+                  }
+
+                  private boolean isEven(int n) {
+                      return n == 0 || isOdd(n - 1);
+                  }
+
+                  private boolean isOdd(int n) {
+                      return n != 0 && isEven(n - 1);
+                  }
+
+                  private int usedRecursively(int n) {
+                      return n <= 0 ? 0 : usedRecursively(n - 1);
+                  }
+
+                  public int dontRemove() {
+                      return usedRecursively(3);
+                  }
+              }
+              """,
+            """
+              class Test {
+
+                  private int usedRecursively(int n) {
+                      return n <= 0 ? 0 : usedRecursively(n - 1);
+                  }
+
+                  public int dontRemove() {
+                      return usedRecursively(3);
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void doNotRemoveCustomizedSerialization() {
         rewriteRun(
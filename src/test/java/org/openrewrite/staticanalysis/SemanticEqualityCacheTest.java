@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SemanticEqualityCacheTest {
+
+    @Test
+    void commutedOperandsHashTheSame() {
+        List<Expression> returned = returned(
+          //language=java
+          """
+            class Test {
+                int first(int a, int b) {
+                    return a + b;
+                }
+                int second(int a, int b) {
+                    return b + a;
+                }
+            }
+            """
+        );
+        assertAgreesWithSemanticallyEqual(returned.get(0), returned.get(1));
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        assertThat(SemanticEqualityCache.hash(returned.get(0), ctx)).isEqualTo(SemanticEqualityCache.hash(returned.get(1), ctx));
+    }
+
+    @Test
+    void callsOnDifferentReceivers() {
+        List<Expression> returned = returned(
+          //language=java
+          """
+            class Test {
+                int first(String a, String b) {
+                    return a.length();
+                }
+                int second(String a, String b) {
+                    return b.length();
+                }
+                int third(String a, String b) {
+                    return a.length();
+                }
+            }
+            """
+        );
+        assertAgreesWithSemanticallyEqual(returned.get(0), returned.get(1));
+        assertAgreesWithSemanticallyEqual(returned.get(0), returned.get(2));
+        assertThat(SemanticEqualityCache.areEqual(returned.get(0), returned.get(1), new InMemoryExecutionContext())).isFalse();
+    }
+
+    @Test
+    void changedTreeWithTheSameIdIsHashedAnew() {
+        List<Expression> returned = returned(
+          //language=java
+          """
+            class Test {
+                int first() {
+                    return 1;
+                }
+                int second() {
+                    return 2;
+                }
+            }
+            """
+        );
+        J.Literal one = (J.Literal) returned.get(0);
+        J.Literal two = (J.Literal) returned.get(1);
+        J.Literal changed = one.withValue(2).withValueSource("2");
+        assertThat(changed.getId()).isEqualTo(one.getId());
+
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        int before = SemanticEqualityCache.hash(one, ctx);
+        assertThat(SemanticEqualityCache.hash(changed, ctx))
+          .isEqualTo(SemanticEqualityCache.hash(two, ctx))
+          .isNotEqualTo(before);
+        assertThat(SemanticEqualityCache.areEqual(changed, two, ctx)).isTrue();
+        assertThat(SemanticEqualityCache.areEqual(one, two, ctx)).isFalse();
+    }
+
+    /**
+     * Trees that are semantically equal must hash the same, and the cache must never change the answer.
+     */
+    private static void assertAgreesWithSemanticallyEqual(J j1, J j2) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        boolean equal = SemanticallyEqual.areEqual(j1, j2);
+        assertThat(SemanticEqualityCache.areEqual(j1, j2, ctx)).isEqualTo(equal);
+        if (equal) {
+            assertThat(SemanticEqualityCache.hash(j1, ctx)).isEqualTo(SemanticEqualityCache.hash(j2, ctx));
+        }
+    }
+
+    private static List<Expression> returned(String source) {
+        SourceFile sourceFile = JavaParser.fromJavaVersion().build().parse(source).findFirst().orElseThrow();
+        return new JavaIsoVisitor<List<Expression>>() {
+            @Override
+            public J.Return visitReturn(J.Return _return, List<Expression> expressions) {
+                expressions.add(_return.getExpression());
+                return _return;
+            }
+        }.reduce(sourceFile, new ArrayList<>());
+    }
+}
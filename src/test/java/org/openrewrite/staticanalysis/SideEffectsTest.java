@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.staticanalysis.SideEffects.mayHaveSideEffects;
+import static org.openrewrite.staticanalysis.SideEffects.remembered;
+
+class SideEffectsTest {
+
+    //language=java
+    private static final String SOURCE = """
+      class Test {
+          int pure(String a, String b) {
+              return a.length() + b.length();
+          }
+          int impure(int x, int i) {
+              return x + i++;
+          }
+      }
+      """;
+
+    private final JavaSourceFile sourceFile = (JavaSourceFile) JavaParser.fromJavaVersion().build()
+      .parse(SOURCE).findFirst().orElseThrow();
+    private final Cursor cursor = new Cursor(new Cursor(null, Cursor.ROOT_VALUE), sourceFile);
+    private final ExecutionContext ctx = new InMemoryExecutionContext();
+
+    @Test
+    void answerIsRemembered() {
+        J.Binary sum = (J.Binary) returned(sourceFile).get(0);
+        assertThat(remembered(sum, cursor)).isNull();
+
+        assertThat(mayHaveSideEffects(sum, cursor, ctx)).isFalse();
+        assertThat(remembered(sum, cursor)).isFalse();
+        assertThat(mayHaveSideEffects(sum, cursor, ctx)).isFalse();
+    }
+
+    @Test
+    void nestedSubtreesAreRememberedOnTheWay() {
+        J.Binary sum = (J.Binary) returned(sourceFile).get(0);
+        assertThat(mayHaveSideEffects(sum, cursor, ctx)).isFalse();
+        assertThat(remembered(sum.getLeft(), cursor)).isFalse();
+        assertThat(remembered(((J.MethodInvocation) sum.getRight()).getSelect(), cursor)).isFalse();
+
+        J.Binary increment = (J.Binary) returned(sourceFile).get(1);
+        assertThat(mayHaveSideEffects(increment, cursor, ctx)).isTrue();
+        assertThat(remembered(increment.getLeft(), cursor)).isFalse();
+        assertThat(remembered(increment.getRight(), cursor)).isTrue();
+        assertThat(mayHaveSideEffects(increment.getRight(), cursor, ctx)).isTrue();
+    }
+
+    @Test
+    void changedTreeWithTheSameIdIsInspectedAnew() {
+        J.Binary increment = (J.Binary) returned(sourceFile).get(1);
+        J.Unary postIncrement = (J.Unary) increment.getRight();
+        J.Unary negated = postIncrement.withOperator(J.Unary.Type.Negative);
+        assertThat(negated.getId()).isEqualTo(postIncrement.getId());
+
+        assertThat(mayHaveSideEffects(postIncrement, cursor, ctx)).isTrue();
+        assertThat(remembered(negated, cursor)).isNull();
+        assertThat(mayHaveSideEffects(negated, cursor, ctx)).isFalse();
+        assertThat(mayHaveSideEffects(increment.withRight(negated), cursor, ctx)).isFalse();
+    }
+
+    @Test
+    void answersAreKeptPerSourceFile() {
+        J.Binary sum = (J.Binary) returned(sourceFile).get(0);
+        assertThat(mayHaveSideEffects(sum, cursor, ctx)).isFalse();
+
+        Cursor otherVisit = new Cursor(new Cursor(null, Cursor.ROOT_VALUE), sourceFile);
+        assertThat(remembered(sum, otherVisit)).isNull();
+        assertThat(remembered(sum, new Cursor(cursor, sum))).isFalse();
+    }
+
+    @Test
+    void callsAreAnsweredForTheSourceFileTheyAreIn() {
+        JavaSourceFile original = (JavaSourceFile) JavaParser.fromJavaVersion().build().parse(
+          //language=java
+          """
+            class Test {
+                int i;
+                private int foo() {
+                    return 1;
+                }
+                int bar() {
+                    return foo();
+                }
+                int baz() {
+                    return i++;
+                }
+            }
+            """
+        ).findFirst().orElseThrow();
+        List<Expression> returned = returned(original);
+        Expression call = returned.get(1);
+        // foo() now increments a field, while the call to it is the very same subtree
+        JavaSourceFile changed = (JavaSourceFile) new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Return visitReturn(J.Return _return, Integer p) {
+                return _return.getExpression() == returned.get(0) ? _return.withExpression(returned.get(2)) : _return;
+            }
+        }.visitNonNull(original, 0);
+        assertThat(changed.getId()).isEqualTo(original.getId());
+
+        assertThat(mayHaveSideEffects(call, new Cursor(new Cursor(null, Cursor.ROOT_VALUE), original), ctx)).isFalse();
+        assertThat(mayHaveSideEffects(call, new Cursor(new Cursor(null, Cursor.ROOT_VALUE), changed), ctx)).isTrue();
+    }
+
+    @Test
+    void statementLambdasAreInspected() {
+        JavaSourceFile lambdas = (JavaSourceFile) JavaParser.fromJavaVersion().build().parse(
+          //language=java
+          """
+            import java.util.function.IntSupplier;
+            class Test {
+                int i;
+                IntSupplier pure() {
+                    return () -> { return 1; };
+                }
+                IntSupplier impure() {
+                    return () -> { return i++; };
+                }
+            }
+            """
+        ).findFirst().orElseThrow();
+        Cursor lambdasCursor = new Cursor(new Cursor(null, Cursor.ROOT_VALUE), lambdas);
+        List<Expression> returned = returned(lambdas);
+        assertThat(mayHaveSideEffects(returned.get(0), lambdasCursor, ctx)).isFalse();
+        assertThat(mayHaveSideEffects(returned.get(2), lambdasCursor, ctx)).isTrue();
+    }
+
+    private static List<Expression> returned(JavaSourceFile sourceFile) {
+        return new JavaIsoVisitor<List<Expression>>() {
+            @Override
+            public J.Return visitReturn(J.Return _return, List<Expression> expressions) {
+                expressions.add(_return.getExpression());
+                return super.visitReturn(_return, expressions);
+            }
+        }.reduce(sourceFile, new ArrayList<>());
+    }
+}
@@ -1419,4 +1419,366 @@ class SimplifyConstantIfBranchExecutionTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void removesAfterIfElseReturningInBothBranches() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test(boolean b) {
+                      if (true) {
+                          if (b) {
+                              return;
+                          } else {
+                              return;
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test(boolean b) {
+                      if (b) {
+                          return;
+                      } else {
+                          return;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsAfterIfElseReturningInOneBranch() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test(boolean b) {
+                      if (true) {
+                          if (b) {
+                              return;
+                          } else {
+                              System.out.println("else");
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test(boolean b) {
+                      if (b) {
+                          return;
+                      } else {
+                          System.out.println("else");
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removesAfterTryCatchReturningInBoth() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test() {
+                      if (true) {
+                          try {
+                              System.out.println("try");
+                              return;
+                          } catch (RuntimeException e) {
+                              return;
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test() {
+                      try {
+                          System.out.println("try");
+                          return;
+                      } catch (RuntimeException e) {
+                          return;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removesAfterTryReturningWithFinally() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test() {
+                      if (true) {
+                          try {
+                              return;
+                          } finally {
+                              System.out.println("finally");
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test() {
+                      try {
+                          return;
+                      } finally {
+                          System.out.println("finally");
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsAfterLoopLeftByLabeledBreak() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test(int[] xs) {
+                      outer:
+                      for (int x : xs) {
+                          for (int y : xs) {
+                              if (true) {
+                                  break outer;
+                              }
+                              System.out.println("inner");
+                          }
+                          System.out.println("outer");
+                      }
+                      System.out.println("after loops");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test(int[] xs) {
+                      outer:
+                      for (int x : xs) {
+                          for (int y : xs) {
+                              break outer;
+                          }
+                          System.out.println("outer");
+                      }
+                      System.out.println("after loops");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removesAfterLabeledContinue() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test(int[] xs) {
+                      outer:
+                      for (int x : xs) {
+                          for (int y : xs) {
+                              if (true) {
+                                  continue outer;
+                              }
+                              System.out.println("inner");
+                          }
+                          System.out.println("outer");
+                      }
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test(int[] xs) {
+                      outer:
+                      for (int x : xs) {
+                          for (int y : xs) {
+                              continue outer;
+                          }
+                          System.out.println("outer");
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsAfterSwitchWithoutDefault() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test(int n) {
+                      if (true) {
+                          switch (n) {
+                              case 1:
+                                  return;
+                              case 2:
+                                  return;
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test(int n) {
+                      switch (n) {
+                          case 1:
+                              return;
+                          case 2:
+                              return;
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void removesAfterSwitchFallingThroughToReturningDefault() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test(int n) {
+                      if (true) {
+                          switch (n) {
+                              case 1:
+                                  System.out.println("one");
+                              default:
+                                  return;
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test(int n) {
+                      switch (n) {
+                          case 1:
+                              System.out.println("one");
+                          default:
+                              return;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsAfterSwitchWithBreak() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test(int n) {
+                      if (true) {
+                          switch (n) {
+                              case 1:
+                                  break;
+                              default:
+                                  return;
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test(int n) {
+                      switch (n) {
+                          case 1:
+                              break;
+                          default:
+                              return;
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsAfterWhileTrue() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              public class A {
+                  public void test(boolean b) {
+                      if (true) {
+                          while (true) {
+                              if (b) {
+                                  break;
+                              }
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """,
+            """
+              public class A {
+                  public void test(boolean b) {
+                      while (true) {
+                          if (b) {
+                              break;
+                          }
+                      }
+                      System.out.println("after if");
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -431,6 +431,51 @@ class UnwrapElseAfterReturnTest implements RewriteTest {
         );
     }
 
+    @Test
+    void thenPartEndingInTryThatAlwaysReturnsOrThrows() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  int foo(boolean condition) {
+                      if (condition) {
+                          try {
+                              return compute();
+                          } catch (RuntimeException e) {
+                              throw new IllegalStateException(e);
+                          }
+                      } else {
+                          return 0;
+                      }
+                  }
+
+                  int compute() {
+                      return 1;
+                  }
+              }
+              """,
+            """
+              class Test {
+                  int foo(boolean condition) {
+                      if (condition) {
+                          try {
+                              return compute();
+                          } catch (RuntimeException e) {
+                              throw new IllegalStateException(e);
+                          }
+                      }
+                      return 0;
+                  }
+
+                  int compute() {
+                      return 1;
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void simpleIfElseWithThrow() {
         rewriteRun(
@@ -680,4 +725,201 @@ class UnwrapElseAfterReturnTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void thenPartIfElseReturningInBothBranches() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  int foo(boolean a, boolean b) {
+                      if (a) {
+                          if (b) {
+                              return 1;
+                          } else {
+                              return 2;
+                          }
+                      } else {
+                          return 3;
+                      }
+                  }
+              }
+              """,
+            """
+              class Test {
+                  int foo(boolean a, boolean b) {
+                      if (a) {
+                          if (b) {
+                              return 1;
+                          }
+                          return 2;
+                      }
+                      return 3;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void thenPartTryCatchThatCanCompleteNotChanged() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  int foo(boolean a) {
+                      if (a) {
+                          try {
+                              return compute();
+                          } catch (RuntimeException e) {
+                              System.out.println("failed");
+                          }
+                      } else {
+                          return 0;
+                      }
+                      return 1;
+                  }
+
+                  int compute() {
+                      return 1;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void thenPartLabeledBreakNotChanged() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  void foo(int[] xs) {
+                      outer:
+                      for (int x : xs) {
+                          for (int y : xs) {
+                              if (x == y) {
+                                  break outer;
+                              } else {
+                                  System.out.println(y);
+                              }
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void thenPartLabeledContinueNotChanged() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  void foo(int[] xs) {
+                      outer:
+                      for (int x : xs) {
+                          for (int y : xs) {
+                              if (x == y) {
+                                  continue outer;
+                              } else {
+                                  System.out.println(y);
+                              }
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void thenPartSwitchWithoutDefaultNotChanged() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  int foo(int n, boolean a) {
+                      if (a) {
+                          switch (n) {
+                              case 1:
+                                  return 1;
+                              case 2:
+                                  return 2;
+                          }
+                      } else {
+                          return 0;
+                      }
+                      return -1;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void thenPartSwitchFallingThroughToReturningDefault() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  int foo(int n, boolean a) {
+                      if (a) {
+                          switch (n) {
+                              case 1:
+                                  System.out.println("one");
+                              default:
+                                  return 1;
+                          }
+                      } else {
+                          return 0;
+                      }
+                  }
+              }
+              """,
+            """
+              class Test {
+                  int foo(int n, boolean a) {
+                      if (a) {
+                          switch (n) {
+                              case 1:
+                                  System.out.println("one");
+                              default:
+                                  return 1;
+                          }
+                      }
+                      return 0;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void thenPartWhileTrueNotChanged() {
+        rewriteRun(
+          java(
+            """
+              class Test {
+                  int foo(boolean a) {
+                      if (a) {
+                          while (true) {
+                              System.out.println("spinning");
+                          }
+                      } else {
+                          return 0;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.*;
+import org.openrewrite.config.Environment;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.style.Autodetect;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.kotlin.KotlinParser;
+import org.openrewrite.text.PlainTextParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every recipe of the module over the same source files serially, with a new visitor for each source file,
+ * and on a fork-join pool, keeping one visitor per worker thread for the recipes whose visitors are
+ * {@link VisitorSharing.Mode#SHARED}, and expects byte-identical results. Scanning recipes scan serially either way. Every copy of the Java sources is
+ * formatted in its own style, so that a visitor that carries the style of one source file over to the next gives
+ * itself away.
+ */
+class VisitorSharingTest {
+
+    // Each source is parsed this many times over, so that every worker thread visits several source files
+    private static final int COPIES = 8;
+
+    // The style of each copy of the Java sources, in turn
+    private static final List<UnaryOperator<String>> STYLES = Arrays.asList(
+      source -> source,
+      source -> indent(source, "  "),
+      source -> indent(source, "\t"),
+      source -> bracesOnOwnLine(indent(source, "\t"))
+    );
+
+    //language=java
+    private static final String[] CORPUS = {
+      """
+        package com.example;
+
+        import java.util.*;
+
+        public class Orders {
+            private int count = 0;
+            private String Name;
+            private final List<String> items = new ArrayList<>();
+            private static final Stack<String> history = new Stack<>();
+
+            public Orders(String name) {
+                this.Name = name;
+            }
+
+            public int getCount() {
+                return count;
+            }
+
+            public String describe(int kind) {
+                String result = "";
+                switch (kind) {
+                    default:
+                        result = "other";
+                    case 1:
+                        result = "one";
+                        break;
+                }
+                if (result.equals("")) {
+                }
+                for (int i = 0; i < items.size(); i++) {
+                    result += items.get(i);
+                }
+                return result;
+            }
+
+            public void print(Optional<String> value) {
+                if (value.isPresent()) {
+                    System.out.println(value.get());
+                }
+            }
+
+            void Add_Item(String item) {
+                String Item_Name = item;
+                items.add(Item_Name);
+                history.push(Item_Name);
+            }
+
+            boolean isEmpty() {
+                if (items.size() == 0) {
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+        }
+        """,
+      """
+        package com.example.util;
+
+        public class Strings {
+            public static String upper(String s) {
+                return s == null ? null : s.toUpperCase();
+            }
+
+            public static boolean same(String a, String b) {
+                return a == b;
+            }
+
+            static class Holder {
+                private long value = 0L;
+                private int count;
+
+                Holder(int count) {
+                    this.count = count;
+                }
+
+                int count() {
+                    int count = this.count;
+                    return count;
+                }
+            }
+        }
+        """,
+      """
+        package com.example;
+
+        abstract class Shape {
+            abstract double area();
+        }
+
+        class Circle extends Shape {
+            private double radius;
+
+            Circle(double radius) {
+                this.radius = radius;
+            }
+
+            double Area() {
+                return area();
+            }
+
+            @Override
+            double area() {
+                return Math.PI * radius * radius;
+            }
+        }
+        """
+    };
+
+    //language=kotlin
+    private static final String KOTLIN = """
+      package com.example
+
+      class Counter(private var count: Int) {
+          fun next(): Int {
+              if (count == 0) {
+                  return 1
+              } else {
+                  count++
+                  return count
+              }
+          }
+      }
+      """;
+
+    private static final String TEXT = """
+      Orders are shipped on weekdays.
+      """;
+
+    @Test
+    void recipesGiveTheSameResultsSeriallyAndInParallel() throws Exception {
+        List<SourceFile> sourceFiles = new ArrayList<>();
+        for (int i = 0; i < COPIES; i++) {
+            UnaryOperator<String> style = STYLES.get(i % STYLES.size());
+            JavaParser.fromJavaVersion().build()
+              .parse(Arrays.stream(CORPUS).map(style).toArray(String[]::new))
+              .map(VisitorSharingTest::withAutodetectedStyle)
+              .forEach(sourceFiles::add);
+            KotlinParser.builder().build().parse(KOTLIN).forEach(sourceFiles::add);
+            PlainTextParser.builder().build().parse(TEXT).forEach(sourceFiles::add);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (Recipe recipe : recipes()) {
+                List<String> serial = run(recipe, sourceFiles, null);
+                List<String> parallel = run(recipe, sourceFiles, pool);
+                assertThat(parallel).as(recipe.getName()).isEqualTo(serial);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static SourceFile withAutodetectedStyle(SourceFile sourceFile) {
+        if (!(sourceFile instanceof J.CompilationUnit)) {
+            return sourceFile;
+        }
+        Autodetect.Detector detector = Autodetect.detector();
+        detector.sample(sourceFile);
+        return sourceFile.withMarkers(sourceFile.getMarkers().add(detector.build()));
+    }
+
+    /**
+     * @return The source with every level of four spaces of indentation replaced by the given unit.
+     */
+    private static String indent(String source, String unit) {
+        StringBuilder indented = new StringBuilder();
+        for (String line : source.split("\n", -1)) {
+            int spaces = 0;
+            while (spaces < line.length() && line.charAt(spaces) == ' ') {
+                spaces++;
+            }
+            indented.append(unit.repeat(spaces / 4)).append(line.substring(spaces / 4 * 4)).append('\n');
+        }
+        return indented.substring(0, indented.length() - 1);
+    }
+
+    /**
+     * @return The source with every opening brace that ends a line wrapped onto a line of its own.
+     */
+    private static String bracesOnOwnLine(String source) {
+        StringBuilder wrapped = new StringBuilder();
+        for (String line : source.split("\n", -1)) {
+            String code = line.trim();
+            if (code.endsWith(" {")) {
+                String indentation = line.substring(0, line.indexOf(code));
+                wrapped.append(line, 0, line.length() - 2).append('\n').append(indentation).append("{\n");
+            } else {
+                wrapped.append(line).append('\n');
+            }
+        }
+        return wrapped.substring(0, wrapped.length() - 1);
+    }
+
+    private static List<Recipe> recipes() {
+        return Environment.builder()
+          .scanRuntimeClasspath("org.openrewrite.staticanalysis")
+          .build()
+          .listRecipes()
+          .stream()
+          .filter(r -> r.getClass().getName().startsWith("org.openrewrite.staticanalysis."))
+          .filter(r -> r.getDescriptor().getOptions().stream().noneMatch(o -> o.isRequired() && o.getValue() == null))
+          .collect(toList());
+    }
+
+    /**
+     * @return The printed source files after running the recipe, serially when there is no pool.
+     */
+    private static List<String> run(Recipe recipe, List<SourceFile> sourceFiles, @Nullable ForkJoinPool pool) throws Exception {
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> {
+            throw new AssertionError("Failed to run " + recipe.getName(), t);
+        });
+        boolean shared = pool != null && VisitorSharing.Mode.of(recipe.getClass()) == VisitorSharing.Mode.SHARED;
+
+        List<SourceFile> before = new ArrayList<>(sourceFiles);
+        Supplier<TreeVisitor<?, ExecutionContext>> visitors;
+        if (recipe instanceof ScanningRecipe) {
+            //noinspection unchecked
+            ScanningRecipe<Object> scanningRecipe = (ScanningRecipe<Object>) recipe;
+            Object acc = scanningRecipe.getInitialValue(ctx);
+            // Scanning is not covered by VisitorSharing, so accumulators see source files in order
+            for (SourceFile sourceFile : sourceFiles) {
+                visit(scanningRecipe.getScanner(acc), sourceFile, ctx);
+            }
+            before.addAll(scanningRecipe.generate(acc, ctx));
+            visitors = visitors(() -> scanningRecipe.getVisitor(acc), shared);
+        } else {
+            visitors = visitors(recipe::getVisitor, shared);
+        }
+
+        IntFunction<String> edit = i -> {
+            Tree after = visit(visitors.get(), before.get(i), ctx);
+            return after == null ? "" : ((SourceFile) after).printAll();
+        };
+        if (pool == null) {
+            return IntStream.range(0, before.size()).mapToObj(edit).collect(toList());
+        }
+        return pool.submit(() -> IntStream.range(0, before.size()).parallel().mapToObj(edit).collect(toList())).get();
+    }
+
+    private static Supplier<TreeVisitor<?, ExecutionContext>> visitors(Supplier<TreeVisitor<?, ExecutionContext>> newVisitor, boolean shared) {
+        if (!shared) {
+            return newVisitor;
+        }
+        ThreadLocal<TreeVisitor<?, ExecutionContext>> perThread = ThreadLocal.withInitial(newVisitor);
+        return perThread::get;
+    }
+
+    private static @Nullable Tree visit(TreeVisitor<?, ExecutionContext> visitor, SourceFile sourceFile, ExecutionContext ctx) {
+        return visitor.isAcceptable(sourceFile, ctx) ? visitor.visit(sourceFile, ctx) : sourceFile;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.staticanalysis.table;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.Column;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.staticanalysis.FindMissingJavadocOnPublicMethods;
+import org.openrewrite.test.RewriteTest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class DataTableSpillTest implements RewriteTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void rowsOfRecipeSpillToDisk() throws IOException {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        DataTableSpill spill = DataTableSpill.enable(ctx, tempDir);
+        FindMissingJavadocOnPublicMethods recipe = new FindMissingJavadocOnPublicMethods();
+        rewriteRun(
+          spec -> spec.recipe(recipe).executionContext(ctx),
+          //language=java
+          java(
+            """
+            package com.example;
+            class A {
+                public void foo() {
+                }
+                public void bar() {
+                }
+            }
+            """,
+            """
+            package com.example;
+            class A {
+                public void /*~~>*/foo() {
+                }
+                public void /*~~>*/bar() {
+                }
+            }
+            """
+          )
+        );
+        spill.close();
+
+        assertThat(read(spill.directoryOf(recipe.getReport()))).containsExactly(
+          asList("com/example/A.java", "com.example.A", "foo"),
+          asList("com/example/A.java", "com.example.A", "bar")
+        );
+    }
+
+    @Test
+    void nullValuesAndNumericColumns() throws IOException {
+        DataTableSpill spill = DataTableSpill.enable(new InMemoryExecutionContext(), tempDir);
+        Measurements measurements = new Measurements(Recipe.noop());
+        spill.write(measurements, new Measurements.Row("a", 1, 1L));
+        spill.write(measurements, new Measurements.Row(null, -5, Long.MAX_VALUE));
+        spill.write(measurements, new Measurements.Row("a", Integer.MIN_VALUE, Long.MIN_VALUE));
+        spill.write(measurements, new Measurements.Row(null, 0, 0L));
+        spill.close();
+
+        assertThat(read(spill.directoryOf(measurements))).containsExactly(
+          asList("a", "1", "1"),
+          asList(null, "-5", "9223372036854775807"),
+          asList("a", "-2147483648", "-9223372036854775808"),
+          asList(null, "0", "0")
+        );
+    }
+
+    @Test
+    void valuesAreWrittenOutInFullOnceTheDictionaryIsFull() throws IOException {
+        DataTableSpill spill = DataTableSpill.enable(new InMemoryExecutionContext(), tempDir);
+        Measurements measurements = new Measurements(Recipe.noop());
+        List<List<@Nullable String>> expected = new ArrayList<>();
+        int distinct = DataTableSpill.MAX_DICTIONARY_ENTRIES + 100;
+        for (int i = 0; i < distinct; i++) {
+            spill.write(measurements, new Measurements.Row("name-" + i, i, i));
+            expected.add(asList("name-" + i, String.valueOf(i), String.valueOf(i)));
+        }
+        // Values in the dictionary and values past it, each written once more
+        for (int i : new int[]{0, 1, DataTableSpill.MAX_DICTIONARY_ENTRIES - 1, DataTableSpill.MAX_DICTIONARY_ENTRIES, distinct - 1}) {
+            spill.write(measurements, new Measurements.Row("name-" + i, i, i));
+            expected.add(asList("name-" + i, String.valueOf(i), String.valueOf(i)));
+        }
+        spill.close();
+
+        assertThat(read(spill.directoryOf(measurements))).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void concurrentWritersKeepRowsWhole() throws Exception {
+        DataTableSpill spill = DataTableSpill.enable(new InMemoryExecutionContext(), tempDir);
+        Measurements measurements = new Measurements(Recipe.noop());
+        int writers = 8;
+        int rowsPerWriter = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                String name = "writer-" + w;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < rowsPerWriter; i++) {
+                        spill.write(measurements, new Measurements.Row(name, i, (long) name.hashCode() * i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+        spill.close();
+
+        Map<String, Integer> nextRowByWriter = new HashMap<>();
+        for (List<@Nullable String> row : read(spill.directoryOf(measurements))) {
+            String name = Objects.requireNonNull(row.get(0));
+            int i = nextRowByWriter.getOrDefault(name, 0);
+            // The rows of each writer come back whole and in the order that writer inserted them
+            assertThat(row).containsExactly(name, String.valueOf(i), String.valueOf((long) name.hashCode() * i));
+            nextRowByWriter.put(name, i + 1);
+        }
+        assertThat(nextRowByWriter).hasSize(writers).allSatisfy((name, rows) -> assertThat(rows).isEqualTo(rowsPerWriter));
+    }
+
+    @Test
+    void instancesOfTheSameTableAreKeptApart() throws IOException {
+        DataTableSpill spill = DataTableSpill.enable(new InMemoryExecutionContext(), tempDir);
+        Measurements first = new Measurements(Recipe.noop());
+        Measurements second = new Measurements(Recipe.noop());
+        spill.write(first, new Measurements.Row("first", 1, 1L));
+        spill.write(second, new Measurements.Row("second", 2, 2L));
+        spill.write(first, new Measurements.Row("first", 3, 3L));
+        spill.close();
+
+        assertThat(spill.directoryOf(first)).isNotEqualTo(spill.directoryOf(second));
+        assertThat(read(spill.directoryOf(first))).containsExactly(
+          asList("first", "1", "1"),
+          asList("first", "3", "3")
+        );
+        assertThat(read(spill.directoryOf(second))).containsExactly(
+          asList("second", "2", "2")
+        );
+    }
+
+    private static List<List<@Nullable String>> read(Path tableDirectory) throws IOException {
+        List<List<@Nullable String>> rows = new ArrayList<>();
+        DataTableSpill.read(tableDirectory, rows::add);
+        return rows;
+    }
+
+    static class Measurements extends SpillableDataTable<Measurements.Row> {
+
+        Measurements(Recipe recipe) {
+            super(recipe,
+                    "Measurements",
+                    "Values of each kind of column.");
+        }
+
+        @Value
+        static class Row {
+            @Column(displayName = "Name",
+                    description = "A name, which may be missing.")
+            @Nullable
+            String name;
+
+            @Column(displayName = "Count",
+                    description = "An int column.")
+            int count;
+
+            @Column(displayName = "Total",
+                    description = "A long column.")
+            long total;
+        }
+    }
+}